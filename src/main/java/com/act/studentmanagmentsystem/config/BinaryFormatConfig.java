@@ -0,0 +1,41 @@
+package com.act.studentmanagmentsystem.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary encodings of the JSON responses for internal consumers that page through large lists. Clients opt in with
+ * {@code Accept: application/x-jackson-smile} or {@code Accept: application/cbor}; everyone else keeps getting JSON.
+ * Both mappers are built from the application's Jackson settings, so field names and values are the same as in
+ * the JSON form and a consumer can switch formats without changing its model.
+ * <p>
+ * The list endpoints carry {@link #SCHEMA_VERSION_HEADER}. Within a version fields are only ever added, never
+ * renamed, removed or retyped, and consumers are expected to ignore fields they do not know.
+ */
+@Configuration
+public class BinaryFormatConfig {
+    public static final String SCHEMA_VERSION_HEADER = "X-Schema-Version";
+    public static final String LIST_SCHEMA_VERSION = "1";
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        // Repeated short values (status, term, instructor) are written once and back-referenced, like field names
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false).factory(factory).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper mapper = builder.createXmlMapper(false).factory(new CBORFactory()).build();
+        return new MappingJackson2CborHttpMessageConverter(mapper);
+    }
+}
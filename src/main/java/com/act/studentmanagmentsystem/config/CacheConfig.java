@@ -0,0 +1,39 @@
+package com.act.studentmanagmentsystem.config;
+
+import com.act.studentmanagmentsystem.service.InMemoryInvalidationBus;
+import com.act.studentmanagmentsystem.service.InvalidationBus;
+import com.act.studentmanagmentsystem.service.PostgresInvalidationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String COURSES_CACHE = "courses";
+
+    @Bean
+    public CacheManager cacheManager() {
+        return new ConcurrentMapCacheManager(COURSES_CACHE);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.invalidation.bus", havingValue = "postgres", matchIfMissing = true)
+    public InvalidationBus postgresInvalidationBus(JdbcTemplate jdbcTemplate, DataSourceProperties properties,
+                                                   @Value("${app.invalidation.channel:cache_invalidation}") String channel) {
+        return new PostgresInvalidationBus(jdbcTemplate, channel, properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.invalidation.bus", havingValue = "memory")
+    public InvalidationBus inMemoryInvalidationBus() {
+        return new InMemoryInvalidationBus();
+    }
+}
@@ -0,0 +1,29 @@
+package com.act.studentmanagmentsystem.config;
+
+import com.act.studentmanagmentsystem.service.FileNotificationSender;
+import com.act.studentmanagmentsystem.service.LogNotificationSender;
+import com.act.studentmanagmentsystem.service.NotificationSender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class NotificationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.notifications.sender", havingValue = "log", matchIfMissing = true)
+    public NotificationSender logNotificationSender() {
+        return new LogNotificationSender();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.notifications.sender", havingValue = "file")
+    public NotificationSender fileNotificationSender(ObjectMapper objectMapper,
+                                                     @Value("${app.notifications.file:notifications.jsonl}") String file) {
+        return new FileNotificationSender(Path.of(file), objectMapper);
+    }
+}
@@ -0,0 +1,105 @@
+package com.act.studentmanagmentsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Logs the effective connection-pool, driver and Hibernate batching settings once the application is ready,
+ * and warns about mappings that silently defeat JDBC batching.
+ */
+@Component
+public class PersistenceSelfCheck {
+    private static final Logger logger = LoggerFactory.getLogger(PersistenceSelfCheck.class);
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public PersistenceSelfCheck(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        HikariDataSource hikari = unwrapHikari();
+        if (hikari != null) {
+            Properties driver = hikari.getDataSourceProperties();
+            logger.info("Connection pool '{}': maximumPoolSize={}, minimumIdle={}, connectionTimeout={}ms, maxLifetime={}ms",
+                    hikari.getPoolName(), hikari.getMaximumPoolSize(), hikari.getMinimumIdle(),
+                    hikari.getConnectionTimeout(), hikari.getMaxLifetime());
+            logger.info("JDBC driver: prepareThreshold={}, preparedStatementCacheQueries={}, reWriteBatchedInserts={}",
+                    driver.getProperty("prepareThreshold", "default"),
+                    driver.getProperty("preparedStatementCacheQueries", "default"),
+                    driver.getProperty("reWriteBatchedInserts", "false"));
+        } else {
+            logger.info("DataSource is not a HikariDataSource ({}), skipping pool report", dataSource.getClass().getName());
+        }
+
+        Map<String, Object> jpa = entityManagerFactory.getProperties();
+        int batchSize = parseInt(jpa.get("hibernate.jdbc.batch_size"));
+        logger.info("Hibernate: jdbc.batch_size={}, order_inserts={}, order_updates={}",
+                batchSize > 0 ? batchSize : "unset",
+                jpa.getOrDefault("hibernate.order_inserts", "false"),
+                jpa.getOrDefault("hibernate.order_updates", "false"));
+
+        if (batchSize <= 1) {
+            logger.warn("hibernate.jdbc.batch_size is not set; inserts and updates are sent one statement at a time");
+            return;
+        }
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            if (usesIdentityGeneration(entity.getJavaType())) {
+                logger.warn("{} uses GenerationType.IDENTITY; Hibernate cannot batch its inserts despite jdbc.batch_size={}",
+                        entity.getName(), batchSize);
+            }
+        }
+    }
+
+    private HikariDataSource unwrapHikari() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (Exception e) {
+            logger.debug("Could not unwrap DataSource", e);
+        }
+        return null;
+    }
+
+    private static boolean usesIdentityGeneration(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                GeneratedValue generated = field.getAnnotation(GeneratedValue.class);
+                if (field.isAnnotationPresent(Id.class) && generated != null
+                        && generated.strategy() == GenerationType.IDENTITY) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int parseInt(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.act.studentmanagmentsystem.config;
+
+import com.act.studentmanagmentsystem.service.QueryBudgetFilter;
+import com.act.studentmanagmentsystem.service.QueryCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL statement budgets per request: Hibernate reports every statement to {@link QueryCounter}, and
+ * {@link QueryBudgetFilter} checks the total against the handler's {@code @QueryBudget}. The filter is ordered
+ * after the security filter chain so it only sees the work of the request's handler.
+ */
+@Configuration
+public class QueryBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.query-budget.expose-header:false}") boolean exposeHeader,
+            @Value("${app.query-budget.fail-on-exceed:false}") boolean failOnExceed,
+            @Value("${app.query-budget.default-limit:0}") int defaultLimit) {
+        FilterRegistrationBean<QueryBudgetFilter> registration = new FilterRegistrationBean<>(
+                new QueryBudgetFilter(meterRegistry, exposeHeader, failOnExceed, defaultLimit));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(0);
+        return registration;
+    }
+}
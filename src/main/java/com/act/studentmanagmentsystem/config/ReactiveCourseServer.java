@@ -0,0 +1,143 @@
+package com.act.studentmanagmentsystem.config;
+
+import com.act.studentmanagmentsystem.controller.ReactiveCourseHandler;
+import com.act.studentmanagmentsystem.service.AuditLogService;
+import com.act.studentmanagmentsystem.service.CourseRequirementIndex;
+import com.act.studentmanagmentsystem.service.CourseSeatFeed;
+import com.act.studentmanagmentsystem.service.DashboardStats;
+import com.act.studentmanagmentsystem.service.InvalidationBus;
+import com.act.studentmanagmentsystem.service.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+/**
+ * Runs the non-blocking catalog and enrollment endpoints on a separate Reactor Netty port next to the servlet
+ * application. The R2DBC pool is deliberately not a bean: a {@code ConnectionFactory} bean would make Spring Boot
+ * back off from the JDBC DataSource the rest of the application uses.
+ */
+@Component
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveCourseServer implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCourseServer.class);
+
+    private final JwtUtil jwtUtil;
+    private final AuditLogService auditLogService;
+    private final CourseSeatFeed courseSeatFeed;
+    private final DashboardStats dashboardStats;
+    private final InvalidationBus invalidationBus;
+    private final CourseRequirementIndex requirementIndex;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper cborMapper;
+    private final String r2dbcUrl;
+    private final String username;
+    private final String password;
+    private final int port;
+    private final int maxPoolSize;
+
+    private ConnectionPool connectionPool;
+    private DisposableServer server;
+
+    public ReactiveCourseServer(JwtUtil jwtUtil, AuditLogService auditLogService, CourseSeatFeed courseSeatFeed,
+                                DashboardStats dashboardStats, InvalidationBus invalidationBus,
+                                CourseRequirementIndex requirementIndex, ObjectMapper objectMapper,
+                                MappingJackson2SmileHttpMessageConverter smileConverter,
+                                MappingJackson2CborHttpMessageConverter cborConverter,
+                                @Value("${app.reactive.r2dbc-url}") String r2dbcUrl,
+                                @Value("${spring.datasource.username}") String username,
+                                @Value("${spring.datasource.password}") String password,
+                                @Value("${app.reactive.port:8081}") int port,
+                                @Value("${app.reactive.max-pool-size:20}") int maxPoolSize) {
+        this.jwtUtil = jwtUtil;
+        this.auditLogService = auditLogService;
+        this.courseSeatFeed = courseSeatFeed;
+        this.dashboardStats = dashboardStats;
+        this.invalidationBus = invalidationBus;
+        this.requirementIndex = requirementIndex;
+        this.objectMapper = objectMapper;
+        this.smileMapper = smileConverter.getObjectMapper();
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.r2dbcUrl = r2dbcUrl;
+        this.username = username;
+        this.password = password;
+        this.port = port;
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    @Override
+    public void start() {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(maxPoolSize)
+                .maxIdleTime(Duration.ofMinutes(30))
+                .build());
+
+        ReactiveCourseHandler handler = new ReactiveCourseHandler(
+                DatabaseClient.create(connectionPool),
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionPool)),
+                jwtUtil, auditLogService, courseSeatFeed, dashboardStats, invalidationBus, requirementIndex);
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                    codecs.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper));
+                    codecs.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper));
+                    codecs.customCodecs().register(new Jackson2CborEncoder(cborMapper));
+                    codecs.customCodecs().register(new Jackson2CborDecoder(cborMapper));
+                })
+                .build();
+
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(handler.routes(), strategies)))
+                .bindNow();
+        logger.info("Reactive course endpoints listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+        if (connectionPool != null) {
+            connectionPool.dispose();
+            connectionPool = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
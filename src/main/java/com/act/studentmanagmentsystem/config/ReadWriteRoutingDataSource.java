@@ -0,0 +1,86 @@
+package com.act.studentmanagmentsystem.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. Requests with a method other than
+ * GET, HEAD or OPTIONS are write flows: each of their repository lookups runs in its own read-only transaction, but
+ * checks such as duplicate enrollment or seat capacity must not see a lagging replica, and entities they load are
+ * saved again, so every transaction of such a request goes to the primary. A caller that ran a read-write
+ * transaction recently keeps reading from the primary for {@code readYourWritesWindow}, so its own changes are
+ * visible despite replication lag. Must be wrapped in a {@code LazyConnectionDataSourceProxy} so the read-only
+ * flag of the transaction is known when the physical connection is chosen, and Hibernate must release its
+ * connection after each transaction so every transaction is routed on its own.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long readYourWritesWindowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingDataSource(Duration readYourWritesWindow) {
+        this.readYourWritesWindowNanos = readYourWritesWindow.toNanos();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String caller = currentCaller();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || isWriteRequest()) {
+            // Statements outside a transaction (lazy loads in the view) are reads, so they do not open the window
+            if (caller != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                recordWrite(caller);
+            }
+            return PRIMARY;
+        }
+        if (caller != null) {
+            Long wroteAt = lastWrites.get(caller);
+            if (wroteAt != null && System.nanoTime() - wroteAt < readYourWritesWindowNanos) {
+                return PRIMARY;
+            }
+        }
+        return REPLICA;
+    }
+
+    private void recordWrite(String caller) {
+        long now = System.nanoTime();
+        lastWrites.put(caller, now);
+        if (lastWrites.size() > CLEANUP_THRESHOLD) {
+            lastWrites.values().removeIf(wroteAt -> now - wroteAt >= readYourWritesWindowNanos);
+        }
+    }
+
+    private static boolean isWriteRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes servletAttributes) {
+            String method = servletAttributes.getRequest().getMethod();
+            return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+        }
+        return false;
+    }
+
+    private static String currentCaller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getName() != null) {
+            return authentication.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return "addr:" + request.getRemoteAddr();
+        }
+        return null;
+    }
+}
@@ -1,7 +1,13 @@
 package com.act.studentmanagmentsystem.config;
 
+import com.act.studentmanagmentsystem.service.ConcurrencyLimitFilter;
+import com.act.studentmanagmentsystem.service.ConcurrencyLimiter;
+import com.act.studentmanagmentsystem.service.IdempotencyFilter;
+import com.act.studentmanagmentsystem.service.IdempotencyStore;
 import com.act.studentmanagmentsystem.service.JwtAuthenticationFilter;
 import com.act.studentmanagmentsystem.service.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -17,13 +23,28 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.Set;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
     private final JwtUtil jwtUtil;
+    private final IdempotencyStore idempotencyStore;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+    private final Set<String> idempotentPaths;
+    private final long idempotencyWaitMillis;
 
-    public SecurityConfig(JwtUtil jwtUtil) {
+    public SecurityConfig(JwtUtil jwtUtil, IdempotencyStore idempotencyStore, ConcurrencyLimiter concurrencyLimiter,
+                          ObjectMapper objectMapper,
+                          @Value("${app.idempotency.paths:/api/course/enroll,/api/auth/register,/api/user/admin/create}") Set<String> idempotentPaths,
+                          @Value("${app.idempotency.in-flight-wait-ms:30000}") long idempotencyWaitMillis) {
         this.jwtUtil = jwtUtil;
+        this.idempotencyStore = idempotencyStore;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.objectMapper = objectMapper;
+        this.idempotentPaths = idempotentPaths;
+        this.idempotencyWaitMillis = idempotencyWaitMillis;
     }
 
     @Bean
@@ -57,18 +78,31 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/course").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.PUT, "/api/course/*/grades").hasAnyAuthority("ADMIN", "TEACHER")
                         .requestMatchers(HttpMethod.PUT, "/api/course/**").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/course/**").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/course").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/course/seats/stream").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/course/enroll").hasAuthority("STUDENT")
+                        .requestMatchers(HttpMethod.GET, "/api/course/*/roster").hasAnyAuthority("ADMIN", "TEACHER", "STAFF")
                         .requestMatchers(HttpMethod.PUT, "/api/user/profile").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/user/profile").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/user/admin/create").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/user/admin/*/password-setup").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/user/students/**").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/user/stats").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/user/stats/**").hasAuthority("ADMIN")
+                        .requestMatchers("/api/admin/**").hasAuthority("ADMIN")
+                        .requestMatchers("/actuator/health", "/actuator/health/liveness", "/actuator/health/readiness").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ADMIN")
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
+                // Ahead of everything that does work, so rejected requests cost next to nothing
+                .addFilterBefore(new ConcurrencyLimitFilter(concurrencyLimiter, objectMapper), JwtAuthenticationFilter.class)
+                // After JWT authentication so stored responses are scoped to the caller
+                .addFilterAfter(new IdempotencyFilter(idempotencyStore, objectMapper, idempotentPaths, idempotencyWaitMillis),
+                        JwtAuthenticationFilter.class);
 
         return http.build();
     }
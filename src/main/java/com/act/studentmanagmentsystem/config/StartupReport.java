@@ -0,0 +1,72 @@
+package com.act.studentmanagmentsystem.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Logs how long the application took to become ready, the JVM uptime at that point and the resident set size,
+ * together with whether AOT-generated initializers and a CDS archive were in use. RSS is also published as the
+ * {@code process.memory.rss} gauge. RSS is read from {@code /proc/self/status} and is -1 elsewhere.
+ */
+@Component
+public class StartupReport {
+    private static final Logger logger = LoggerFactory.getLogger(StartupReport.class);
+
+    private static final Path PROC_STATUS = Path.of("/proc/self/status");
+
+    private long readyMillis = -1;
+    private long uptimeMillis = -1;
+    private long rssBytes = -1;
+
+    public StartupReport(MeterRegistry meterRegistry) {
+        Gauge.builder("process.memory.rss", StartupReport::currentRssBytes)
+                .baseUnit("bytes")
+                .description("Resident set size of the process")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        readyMillis = event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1;
+        uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        rssBytes = currentRssBytes();
+        List<String> jvmArgs = ManagementFactory.getRuntimeMXBean().getInputArguments();
+        boolean cds = jvmArgs.stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        logger.info("Ready in {} ms (JVM uptime {} ms), RSS {} MiB, AOT {}, CDS archive {}",
+                readyMillis, uptimeMillis, rssBytes < 0 ? "n/a" : rssBytes / (1024 * 1024),
+                AotDetector.useGeneratedArtifacts() ? "on" : "off", cds ? "on" : "off");
+    }
+
+    public long getReadyMillis() { return readyMillis; }
+    public long getUptimeMillis() { return uptimeMillis; }
+    public long getRssBytes() { return rssBytes; }
+
+    static long currentRssBytes() {
+        if (!Files.isReadable(PROC_STATUS)) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(PROC_STATUS)) {
+                if (line.startsWith("VmRSS:")) {
+                    // e.g. "VmRSS:	  245312 kB"
+                    return Long.parseLong(line.substring(6).replace("kB", "").trim()) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.debug("Could not read RSS from {}", PROC_STATUS, e);
+        }
+        return -1;
+    }
+}
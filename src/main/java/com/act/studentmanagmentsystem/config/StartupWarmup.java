@@ -0,0 +1,251 @@
+package com.act.studentmanagmentsystem.config;
+
+import com.act.studentmanagmentsystem.dto.CourseResponse;
+import com.act.studentmanagmentsystem.entity.Role;
+import com.act.studentmanagmentsystem.repository.UserRepository;
+import com.act.studentmanagmentsystem.service.CourseCatalogService;
+import com.act.studentmanagmentsystem.service.JwtUtil;
+import com.act.studentmanagmentsystem.service.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warms the application up before it reports ready. Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC}
+ * only after every {@link ApplicationRunner} has returned, so {@code /actuator/health/readiness} stays
+ * {@code OUT_OF_SERVICE} until this is done and a load balancer keeps sending the first wave elsewhere.
+ * <ol>
+ *   <li>Opens connections until every Hikari pool holds {@code app.warmup.pool-connections} (0 = its maximum).</li>
+ *   <li>Loads the active catalog of every tenant into the cache and runs the user lookups behind every
+ *   authenticated request.</li>
+ *   <li>Parses a token and serializes each catalog as JSON, Smile and CBOR {@code app.warmup.iterations} times so
+ *   the JIT compiles those paths.</li>
+ *   <li>Sends {@code app.warmup.requests} catalog requests per tenant through the local HTTP port, half of them
+ *   with a token, so Tomcat, the filter chain and content negotiation are exercised as well.</li>
+ * </ol>
+ * Every step is best effort and the whole warm-up stops at {@code app.warmup.timeout-ms}. Step and total
+ * durations are recorded in the {@code application.warmup} timer tagged with {@code phase}.
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    // Never a real account; warm-up tokens are only sent to the public catalog
+    private static final String WARMUP_EMAIL = "warmup@localhost.invalid";
+
+    private final ApplicationContext applicationContext;
+    private final JdbcTemplate jdbcTemplate;
+    private final CourseCatalogService courseCatalogService;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2SmileHttpMessageConverter smileConverter;
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int poolConnections;
+    private final int iterations;
+    private final int requests;
+    private final long timeoutMs;
+    private final String contextPath;
+
+    private long deadline;
+
+    public StartupWarmup(ApplicationContext applicationContext, JdbcTemplate jdbcTemplate,
+                         CourseCatalogService courseCatalogService, UserRepository userRepository, JwtUtil jwtUtil,
+                         ObjectMapper objectMapper, MappingJackson2SmileHttpMessageConverter smileConverter,
+                         MappingJackson2CborHttpMessageConverter cborConverter, MeterRegistry meterRegistry,
+                         @Value("${app.warmup.enabled:true}") boolean enabled,
+                         @Value("${app.warmup.pool-connections:0}") int poolConnections,
+                         @Value("${app.warmup.iterations:1000}") int iterations,
+                         @Value("${app.warmup.requests:50}") int requests,
+                         @Value("${app.warmup.timeout-ms:60000}") long timeoutMs,
+                         @Value("${server.servlet.context-path:}") String contextPath) {
+        this.applicationContext = applicationContext;
+        this.jdbcTemplate = jdbcTemplate;
+        this.courseCatalogService = courseCatalogService;
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.smileConverter = smileConverter;
+        this.cborConverter = cborConverter;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.poolConnections = poolConnections;
+        this.iterations = iterations;
+        this.requests = requests;
+        this.timeoutMs = timeoutMs;
+        this.contextPath = contextPath;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        deadline = started + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        phase("pool", this::fillPools);
+        List<String> tenants = new ArrayList<>();
+        phase("lookups", () -> tenants.addAll(loadLookups()));
+        phase("jwt", this::exerciseJwt);
+        phase("serialization", () -> exerciseSerialization(tenants));
+        phase("http", () -> exerciseHttp(tenants));
+        long elapsed = System.nanoTime() - started;
+        meterRegistry.timer("application.warmup", "phase", "total").record(elapsed, TimeUnit.NANOSECONDS);
+        logger.info("Warm-up finished in {} ms for {} tenants{}", TimeUnit.NANOSECONDS.toMillis(elapsed), tenants.size(),
+                expired() ? " (stopped at the " + timeoutMs + " ms timeout)" : "");
+    }
+
+    private void phase(String name, Runnable step) {
+        if (expired()) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            step.run();
+        } catch (Exception e) {
+            logger.warn("Warm-up step '{}' failed, continuing without it", name, e);
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            meterRegistry.timer("application.warmup", "phase", name).record(elapsed, TimeUnit.NANOSECONDS);
+            logger.debug("Warm-up step '{}' took {} ms", name, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private boolean expired() {
+        return System.nanoTime() - deadline > 0;
+    }
+
+    // Holding the connections at once forces the pool to open new ones instead of handing out the same idle one
+    private void fillPools() {
+        for (HikariDataSource pool : applicationContext.getBeansOfType(HikariDataSource.class).values()) {
+            int target = poolConnections > 0 ? Math.min(poolConnections, pool.getMaximumPoolSize()) : pool.getMaximumPoolSize();
+            List<Connection> held = new ArrayList<>(target);
+            try {
+                while (held.size() < target && !expired()) {
+                    Connection connection = pool.getConnection();
+                    held.add(connection);
+                    connection.isValid(2);
+                }
+                logger.info("Connection pool '{}' warmed up with {} connections", pool.getPoolName(), held.size());
+            } catch (Exception e) {
+                logger.warn("Connection pool '{}' warmed up with only {} of {} connections: {}",
+                        pool.getPoolName(), held.size(), target, e.getMessage());
+            } finally {
+                for (Connection connection : held) {
+                    try {
+                        connection.close();
+                    } catch (Exception e) {
+                        logger.debug("Could not return warm-up connection", e);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<String> loadLookups() {
+        List<String> tenants = jdbcTemplate.queryForList(
+                "SELECT DISTINCT tenant_id FROM courses WHERE status = 'ACTIVE' ORDER BY tenant_id", String.class);
+        if (!tenants.contains(TenantContext.DEFAULT_TENANT)) {
+            tenants.add(0, TenantContext.DEFAULT_TENANT);
+        }
+        for (String tenant : tenants) {
+            TenantContext.set(tenant);
+            try {
+                courseCatalogService.getCourses(tenant);
+                userRepository.findByEmail(WARMUP_EMAIL);
+                userRepository.findWithCoursesByEmail(WARMUP_EMAIL);
+                for (Role role : Role.values()) {
+                    userRepository.countByRole(role);
+                }
+            } finally {
+                TenantContext.clear();
+            }
+        }
+        return tenants;
+    }
+
+    private void exerciseJwt() {
+        String header = JwtUtil.BEARER_PREFIX + jwtUtil.generateToken(WARMUP_EMAIL, Role.STUDENT.name(), TenantContext.DEFAULT_TENANT);
+        for (int i = 0; i < iterations && !expired(); i++) {
+            jwtUtil.parseClaims(JwtUtil.bearerToken(header));
+        }
+    }
+
+    private void exerciseSerialization(List<String> tenants) {
+        for (String tenant : tenants) {
+            TenantContext.set(tenant);
+            try {
+                List<CourseResponse> catalog = courseCatalogService.getCourses(tenant);
+                for (int i = 0; i < iterations && !expired(); i++) {
+                    objectMapper.writeValueAsBytes(catalog);
+                    smileConverter.getObjectMapper().writeValueAsBytes(catalog);
+                    cborConverter.getObjectMapper().writeValueAsBytes(catalog);
+                }
+            } catch (Exception e) {
+                logger.warn("Could not serialize the catalog of tenant {} during warm-up", tenant, e);
+            } finally {
+                TenantContext.clear();
+            }
+        }
+    }
+
+    private void exerciseHttp(List<String> tenants) {
+        if (!(applicationContext instanceof WebServerApplicationContext web) || web.getWebServer() == null
+                || web.getWebServer().getPort() <= 0) {
+            logger.debug("No local web server, skipping warm-up requests");
+            return;
+        }
+        String base = "http://localhost:" + web.getWebServer().getPort() + contextPath;
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        int sent = 0;
+        for (String tenant : tenants) {
+            // Alternate anonymous JSON requests with authenticated Smile ones so both filter paths are exercised
+            String authorization = JwtUtil.BEARER_PREFIX + jwtUtil.generateToken(WARMUP_EMAIL, Role.STUDENT.name(), tenant);
+            for (int i = 0; i < requests && !expired(); i++) {
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + "/api/course"));
+                if (i % 2 == 0) {
+                    request.header(TenantContext.TENANT_HEADER, tenant).header("Accept", "application/json");
+                } else {
+                    request.header("Authorization", authorization).header("Accept", "application/x-jackson-smile");
+                }
+                send(client, request);
+                sent++;
+            }
+        }
+        logger.info("Sent {} warm-up requests to {}", sent, base);
+    }
+
+    private void send(HttpClient client, HttpRequest.Builder request) {
+        try {
+            client.send(request.timeout(Duration.ofSeconds(10)).GET().build(), HttpResponse.BodyHandlers.discarding());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during warm-up", e);
+        } catch (Exception e) {
+            logger.debug("Warm-up request to {} failed: {}", request.build().uri(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.act.studentmanagmentsystem.config;
+
+import com.act.studentmanagmentsystem.service.TenantContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Discriminator-based multi-tenancy: {@code User} and {@code Course} carry a {@code @TenantId} column, which
+ * Hibernate fills on insert and adds to every entity query using the tenant resolved here. Native and JDBC
+ * queries are not covered and filter on {@code tenant_id} themselves.
+ */
+@Configuration
+public class TenancyConfig {
+
+    @Bean
+    public CurrentTenantIdentifierResolver<String> tenantIdentifierResolver() {
+        return new CurrentTenantIdentifierResolver<>() {
+            @Override
+            public String resolveCurrentTenantIdentifier() {
+                return TenantContext.current();
+            }
+
+            @Override
+            public boolean validateExistingCurrentSessions() {
+                return true;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer tenantIdentifierResolverCustomizer(CurrentTenantIdentifierResolver<String> resolver) {
+        return properties -> properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, resolver);
+    }
+}
@@ -1,4 +1,454 @@
 package com.act.studentmanagmentsystem.controller;
 
+import com.act.studentmanagmentsystem.entity.AcademicTerm;
+import com.act.studentmanagmentsystem.entity.ArchivedCourse;
+import com.act.studentmanagmentsystem.entity.ArchivedEnrollment;
+import com.act.studentmanagmentsystem.entity.ArchivedUser;
+import com.act.studentmanagmentsystem.entity.AuditEvent;
+import com.act.studentmanagmentsystem.entity.GpaRecalculationRun;
+import com.act.studentmanagmentsystem.entity.ReportJob;
+import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.repository.ArchivedCourseRepository;
+import com.act.studentmanagmentsystem.repository.ArchivedEnrollmentRepository;
+import com.act.studentmanagmentsystem.repository.ArchivedUserRepository;
+import com.act.studentmanagmentsystem.repository.AuditEventRepository;
+import com.act.studentmanagmentsystem.repository.ReportJobRepository;
+import com.act.studentmanagmentsystem.repository.UserRepository;
+import com.act.studentmanagmentsystem.service.ArchivalService;
+import com.act.studentmanagmentsystem.service.AuditLogService;
+import com.act.studentmanagmentsystem.service.GpaRecalculationService;
+import com.act.studentmanagmentsystem.service.ReportJobService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.catalina.Globals;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+
+@RegisterReflectionForBinding({AuditEvent.class, ArchivedCourse.class, ArchivedUser.class, ArchivedEnrollment.class,
+        GpaRecalculationRun.class, ReportRequest.class, ErrorResponse.class})
+@RestController
+@RequestMapping("/api/admin")
 public class AdminController {
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
+    private final UserRepository userRepository;
+    private final AuditEventRepository auditEventRepository;
+    private final AuditLogService auditLogService;
+    private final ArchivalService archivalService;
+    private final ArchivedCourseRepository archivedCourseRepository;
+    private final ArchivedUserRepository archivedUserRepository;
+    private final ArchivedEnrollmentRepository archivedEnrollmentRepository;
+    private final GpaRecalculationService gpaRecalculationService;
+    private final ReportJobService reportJobService;
+    private final ReportJobRepository reportJobRepository;
+
+    public AdminController(UserRepository userRepository, AuditEventRepository auditEventRepository,
+                           AuditLogService auditLogService, ArchivalService archivalService,
+                           ArchivedCourseRepository archivedCourseRepository, ArchivedUserRepository archivedUserRepository,
+                           ArchivedEnrollmentRepository archivedEnrollmentRepository,
+                           GpaRecalculationService gpaRecalculationService, ReportJobService reportJobService,
+                           ReportJobRepository reportJobRepository) {
+        this.userRepository = userRepository;
+        this.auditEventRepository = auditEventRepository;
+        this.auditLogService = auditLogService;
+        this.archivalService = archivalService;
+        this.archivedCourseRepository = archivedCourseRepository;
+        this.archivedUserRepository = archivedUserRepository;
+        this.archivedEnrollmentRepository = archivedEnrollmentRepository;
+        this.gpaRecalculationService = gpaRecalculationService;
+        this.reportJobService = reportJobService;
+        this.reportJobRepository = reportJobRepository;
+    }
+
+    @GetMapping("/audit")
+    public ResponseEntity<?> getAuditEvents(
+            @AuthenticationPrincipal String email,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to view audit log by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can view the audit log"));
+            }
+
+            Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "occurredAt"));
+            Specification<AuditEvent> spec = (root, query, cb) -> cb.conjunction();
+            if (entityType != null && !entityType.isEmpty()) {
+                spec = spec.and((root, query, cb) -> cb.equal(root.get("entityType"), entityType));
+            }
+            if (entityId != null) {
+                spec = spec.and((root, query, cb) -> cb.equal(root.get("entityId"), entityId));
+            }
+            if (actor != null && !actor.isEmpty()) {
+                spec = spec.and((root, query, cb) -> cb.equal(root.get("actor"), actor));
+            }
+            if (action != null && !action.isEmpty()) {
+                spec = spec.and((root, query, cb) -> cb.equal(root.get("action"), action));
+            }
+            if (from != null) {
+                spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("occurredAt"), from));
+            }
+            if (to != null) {
+                spec = spec.and((root, query, cb) -> cb.lessThan(root.get("occurredAt"), to));
+            }
+
+            Page<AuditEvent> events = auditEventRepository.findAll(spec, pageable);
+            return ResponseEntity.ok(Map.of(
+                    "events", events.getContent(),
+                    "currentPage", events.getNumber(),
+                    "totalItems", events.getTotalElements(),
+                    "totalPages", events.getTotalPages(),
+                    "pending", auditLogService.getPendingCount(),
+                    "dropped", auditLogService.getDroppedCount()
+            ));
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching audit events", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch audit events: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/archive/run")
+    public ResponseEntity<?> runArchival(@AuthenticationPrincipal String email) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to run archival by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can run archival"));
+            }
+
+            Map<String, Integer> result = archivalService.run(email);
+            if (result == null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(new ErrorResponse(HttpStatus.CONFLICT, "Archival is already running"));
+            }
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            logger.error("Unexpected error running archival", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Archival failed: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/gpa/recalculate")
+    public ResponseEntity<?> recalculateGpa(@AuthenticationPrincipal String email) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to recalculate GPAs by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can recalculate GPAs"));
+            }
+
+            if (gpaRecalculationService.start(email) == null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(new ErrorResponse(HttpStatus.CONFLICT, "GPA recalculation is already running"));
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(gpaRecalculationService.progress());
+        } catch (Exception e) {
+            logger.error("Unexpected error starting GPA recalculation", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "GPA recalculation failed: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/gpa/recalculate")
+    public ResponseEntity<?> getGpaRecalculation(@AuthenticationPrincipal String email) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to view GPA recalculation by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can view GPA recalculation"));
+            }
+
+            Map<String, Object> progress = gpaRecalculationService.progress();
+            if (progress == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(HttpStatus.NOT_FOUND, "No GPA recalculation has run yet"));
+            }
+            return ResponseEntity.ok(progress);
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching GPA recalculation progress", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch GPA recalculation: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/reports")
+    public ResponseEntity<?> createReport(@RequestBody ReportRequest request, @AuthenticationPrincipal String email) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to generate a report by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can generate reports"));
+            }
+
+            ReportJob.Type type;
+            try {
+                type = ReportJob.Type.valueOf(String.valueOf(request.getType()).trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(new ErrorResponse(HttpStatus.BAD_REQUEST,
+                        "Report type must be ROSTERS, TRANSCRIPTS or TIMETABLES"));
+            }
+            String term = null;
+            if (request.getTerm() != null && !request.getTerm().isEmpty()) {
+                try {
+                    term = AcademicTerm.parse(request.getTerm()).toString();
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.badRequest().body(new ErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage()));
+                }
+            }
+
+            ReportJob job = reportJobService.submit(type, term, email);
+            if (job == null) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Too many reports queued, retry later"));
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(reportJobService.describe(job));
+        } catch (Exception e) {
+            logger.error("Unexpected error queuing report", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to queue report: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/reports")
+    public ResponseEntity<?> getReports(@AuthenticationPrincipal String email) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to list reports by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can view reports"));
+            }
+            return ResponseEntity.ok(reportJobRepository.findTop50ByOrderByIdDesc().stream()
+                    .map(reportJobService::describe)
+                    .toList());
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching reports", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch reports: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/reports/{id}")
+    public ResponseEntity<?> getReport(@PathVariable Long id, @AuthenticationPrincipal String email) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to view report by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can view reports"));
+            }
+
+            ReportJob job = reportJobRepository.findByIdInCurrentTenant(id).orElse(null);
+            if (job == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(HttpStatus.NOT_FOUND, "Report not found with ID: " + id));
+            }
+            return ResponseEntity.ok(reportJobService.describe(job));
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching report: {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch report: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/reports/{id}/download")
+    public ResponseEntity<?> downloadReport(@PathVariable Long id, @AuthenticationPrincipal String email,
+                                            HttpServletRequest request) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to download report by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can download reports"));
+            }
+
+            ReportJob job = reportJobRepository.findByIdInCurrentTenant(id).orElse(null);
+            if (job == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(HttpStatus.NOT_FOUND, "Report not found with ID: " + id));
+            }
+            if (job.getStatus() != ReportJob.Status.COMPLETED) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(new ErrorResponse(HttpStatus.CONFLICT, "Report " + id + " is " + job.getStatus()));
+            }
+            Path file = reportJobService.file(job);
+            if (file == null) {
+                return ResponseEntity.status(HttpStatus.GONE)
+                        .body(new ErrorResponse(HttpStatus.GONE, "Report file is no longer available"));
+            }
+
+            long size = Files.size(file);
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8));
+            headers.setContentLength(size);
+            headers.setContentDisposition(ContentDisposition.attachment().filename(file.getFileName().toString()).build());
+            // Tomcat's NIO connector copies the file to the socket with sendfile once the headers are written
+            if (Boolean.TRUE.equals(request.getAttribute(Globals.SENDFILE_SUPPORTED_ATTR))) {
+                request.setAttribute(Globals.SENDFILE_FILENAME_ATTR, file.toRealPath().toString());
+                request.setAttribute(Globals.SENDFILE_FILE_START_ATTR, 0L);
+                request.setAttribute(Globals.SENDFILE_FILE_END_ATTR, size);
+                return ResponseEntity.ok().headers(headers).build();
+            }
+            return ResponseEntity.ok().headers(headers).body(new FileSystemResource(file));
+        } catch (Exception e) {
+            logger.error("Unexpected error downloading report: {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to download report: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/archive/courses")
+    public ResponseEntity<?> getArchivedCourses(
+            @AuthenticationPrincipal String email,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "") String search) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to view archived courses by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can view archived courses"));
+            }
+
+            Page<ArchivedCourse> courses = archivedCourseRepository.findByNameContainingIgnoreCase(search,
+                    PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "archivedAt")));
+            return ResponseEntity.ok(Map.of(
+                    "courses", courses.getContent(),
+                    "currentPage", courses.getNumber(),
+                    "totalItems", courses.getTotalElements(),
+                    "totalPages", courses.getTotalPages()
+            ));
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching archived courses", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch archived courses: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/archive/courses/{id}")
+    public ResponseEntity<?> getArchivedCourse(@PathVariable Long id, @AuthenticationPrincipal String email) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to view archived course by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can view archived courses"));
+            }
+
+            ArchivedCourse course = archivedCourseRepository.findByIdInCurrentTenant(id).orElse(null);
+            if (course == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(HttpStatus.NOT_FOUND, "Archived course not found with ID: " + id));
+            }
+            return ResponseEntity.ok(Map.of(
+                    "course", course,
+                    "enrollments", archivedEnrollmentRepository.findByCourseIdOrderByStudentIdAsc(id)
+            ));
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching archived course: {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch archived course: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/archive/students")
+    public ResponseEntity<?> getArchivedStudents(
+            @AuthenticationPrincipal String email,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "") String search) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to view archived students by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can view archived students"));
+            }
+
+            Page<ArchivedUser> students = archivedUserRepository.findByEmailContainingIgnoreCase(search,
+                    PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "archivedAt")));
+            return ResponseEntity.ok(Map.of(
+                    "students", students.getContent(),
+                    "currentPage", students.getNumber(),
+                    "totalItems", students.getTotalElements(),
+                    "totalPages", students.getTotalPages()
+            ));
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching archived students", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch archived students: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/archive/students/{id}")
+    public ResponseEntity<?> getArchivedStudent(@PathVariable Long id, @AuthenticationPrincipal String email) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to view archived student by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can view archived students"));
+            }
+
+            ArchivedUser student = archivedUserRepository.findByIdInCurrentTenant(id).orElse(null);
+            if (student == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(HttpStatus.NOT_FOUND, "Archived student not found with ID: " + id));
+            }
+            return ResponseEntity.ok(Map.of(
+                    "student", student,
+                    "enrollments", archivedEnrollmentRepository.findByStudentIdOrderByCourseNameAsc(id)
+            ));
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching archived student: {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch archived student: " + e.getMessage()));
+        }
+    }
+}
+
+class ReportRequest {
+    private String type;
+    private String term;
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public String getTerm() { return term; }
+    public void setTerm(String term) { this.term = term; }
 }
@@ -2,16 +2,25 @@ package com.act.studentmanagmentsystem.controller;
 
 import com.act.studentmanagmentsystem.entity.Role;
 import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.entity.UserStatus;
 import com.act.studentmanagmentsystem.repository.UserRepository;
+import com.act.studentmanagmentsystem.service.DashboardStats;
+import com.act.studentmanagmentsystem.service.EntityChange;
+import com.act.studentmanagmentsystem.service.InvalidationBus;
 import com.act.studentmanagmentsystem.service.JwtUtil;
+import com.act.studentmanagmentsystem.service.Notification;
+import com.act.studentmanagmentsystem.service.NotificationOutbox;
+import com.act.studentmanagmentsystem.service.PasswordSetupService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+@RegisterReflectionForBinding({LoginResponse.class, LogoutResponse.class, ErrorResponse.class})
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -20,11 +29,21 @@ public class AuthController {
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
-
-    public AuthController(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    private final DashboardStats dashboardStats;
+    private final InvalidationBus invalidationBus;
+    private final NotificationOutbox notificationOutbox;
+    private final PasswordSetupService passwordSetupService;
+
+    public AuthController(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder, JwtUtil jwtUtil,
+                          DashboardStats dashboardStats, InvalidationBus invalidationBus, NotificationOutbox notificationOutbox,
+                          PasswordSetupService passwordSetupService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.dashboardStats = dashboardStats;
+        this.invalidationBus = invalidationBus;
+        this.notificationOutbox = notificationOutbox;
+        this.passwordSetupService = passwordSetupService;
     }
 
     @PostMapping("/register")
@@ -40,6 +59,15 @@ public class AuthController {
                         .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Invalid role: " + request.getRole()));
             }
 
+            UserStatus status;
+            try {
+                status = request.getStatus() != null ? UserStatus.valueOf(request.getStatus()) : UserStatus.ACTIVE;
+            } catch (IllegalArgumentException e) {
+                logger.warn("Invalid status provided: {}", request.getStatus());
+                return ResponseEntity.badRequest()
+                        .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Invalid status: " + request.getStatus()));
+            }
+
             User user = new User();
             user.setFirstName(request.getFirstName());
             user.setLastName(request.getLastName());
@@ -48,10 +76,13 @@ public class AuthController {
             user.setRole(role);
             user.setPhone(request.getPhone());
             user.setGpa(request.getGpa());
-            user.setStatus(request.getStatus());
+            user.setStatus(status);
             user.setCreatedAt(java.time.LocalDateTime.now());
 
-            userRepository.save(user);
+            notificationOutbox.runWith(() -> userRepository.save(user), () -> Notification.registered(user));
+            dashboardStats.onUserCreated(user);
+            invalidationBus.publish(EntityChange.USER, user.getId(), "CREATED", user.getTenantId(),
+                    DashboardStats.userCreatedDelta(user));
             logger.info("User registered successfully: {}", request.getEmail());
             return ResponseEntity.ok("User registered successfully");
         } catch (DataIntegrityViolationException e) {
@@ -82,7 +113,7 @@ public class AuthController {
                         .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Invalid email or password"));
             }
 
-            String token = jwtUtil.generateToken(user.getEmail(), user.getRole().name());
+            String token = jwtUtil.generateToken(user.getEmail(), user.getRole().name(), user.getTenantId());
             logger.info("Login successful for email: {}, token generated", request.getEmail());
             return ResponseEntity.ok(new LoginResponse(true, token, user.isMustChangePassword()));
         } catch (Exception e) {
@@ -92,6 +123,28 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/password-setup")
+    public ResponseEntity<?> setupPassword(@RequestBody PasswordSetupRequest request) {
+        if (request.getToken() == null || request.getPassword() == null || request.getPassword().isBlank()) {
+            return ResponseEntity.badRequest()
+                    .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "token and password are required"));
+        }
+        try {
+            String email = passwordSetupService.complete(request.getToken(), request.getPassword());
+            if (email == null) {
+                logger.warn("Password setup failed: unknown, used or expired link");
+                return ResponseEntity.badRequest()
+                        .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Invalid or expired password setup link"));
+            }
+            logger.info("Password set up for email: {}", email);
+            return ResponseEntity.ok("Password set successfully");
+        } catch (Exception e) {
+            logger.error("Unexpected error during password setup", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Password setup failed: " + e.getMessage()));
+        }
+    }
+
     @PostMapping("/logout")
     public ResponseEntity<?> logout() {
         logger.info("Processing logout request");
@@ -127,6 +180,16 @@ class RegisterRequest {
     public void setStatus(String status) { this.status = status; }
 }
 
+class PasswordSetupRequest {
+    private String token;
+    private String password;
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+    public String getPassword() { return password; }
+    public void setPassword(String password) { this.password = password; }
+}
+
 class LoginRequest {
     private String email;
     private String password;
@@ -1,19 +1,55 @@
 package com.act.studentmanagmentsystem.controller;
 
+import com.act.studentmanagmentsystem.config.BinaryFormatConfig;
+import com.act.studentmanagmentsystem.dto.CourseResponse;
+import com.act.studentmanagmentsystem.entity.AcademicTerm;
 import com.act.studentmanagmentsystem.entity.Course;
+import com.act.studentmanagmentsystem.entity.CourseStatus;
+import com.act.studentmanagmentsystem.entity.LetterGrade;
+import com.act.studentmanagmentsystem.entity.MeetingTime;
 import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.entity.UserStatus;
+import com.act.studentmanagmentsystem.repository.ArchivedEnrollmentRepository;
 import com.act.studentmanagmentsystem.repository.CourseRepository;
+import com.act.studentmanagmentsystem.repository.EnrollmentViewRepository;
 import com.act.studentmanagmentsystem.repository.UserRepository;
-import com.act.studentmanagmentsystem.service.JwtUtil;
+import com.act.studentmanagmentsystem.service.AuditLogService;
+import com.act.studentmanagmentsystem.service.CourseCatalogService;
+import com.act.studentmanagmentsystem.service.CourseRequirementIndex;
+import com.act.studentmanagmentsystem.service.CourseSeatFeed;
+import com.act.studentmanagmentsystem.service.DashboardStats;
+import com.act.studentmanagmentsystem.service.EnrollmentPartitionMaintenance;
+import com.act.studentmanagmentsystem.service.EnrollmentProjection;
+import com.act.studentmanagmentsystem.service.EntityChange;
+import com.act.studentmanagmentsystem.service.GradeService;
+import com.act.studentmanagmentsystem.service.InvalidationBus;
+import com.act.studentmanagmentsystem.service.Notification;
+import com.act.studentmanagmentsystem.service.NotificationOutbox;
+import com.act.studentmanagmentsystem.service.QueryBudget;
+import com.act.studentmanagmentsystem.service.SingleFlight;
+import com.act.studentmanagmentsystem.service.TenantContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+@RegisterReflectionForBinding({CourseResponse.class, RosterEntryResponse.class, ErrorResponse.class})
 @RestController
 @RequestMapping("/api/course")
 public class CourseController {
@@ -21,19 +57,51 @@ public class CourseController {
 
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
-    private final JwtUtil jwtUtil;
+    private final AuditLogService auditLogService;
+    private final CourseSeatFeed courseSeatFeed;
+    private final EnrollmentProjection enrollmentProjection;
+    private final EnrollmentViewRepository enrollmentViewRepository;
+    private final DashboardStats dashboardStats;
+    private final CourseCatalogService courseCatalogService;
+    private final InvalidationBus invalidationBus;
+    private final EnrollmentPartitionMaintenance partitionMaintenance;
+    private final CourseRequirementIndex requirementIndex;
+    private final SingleFlight singleFlight;
+    private final GradeService gradeService;
+    private final NotificationOutbox notificationOutbox;
+    private final ArchivedEnrollmentRepository archivedEnrollmentRepository;
+    private final Duration catalogWait;
 
-    public CourseController(CourseRepository courseRepository, UserRepository userRepository, JwtUtil jwtUtil) {
+    public CourseController(CourseRepository courseRepository, UserRepository userRepository,
+                            AuditLogService auditLogService, CourseSeatFeed courseSeatFeed,
+                            EnrollmentProjection enrollmentProjection, EnrollmentViewRepository enrollmentViewRepository,
+                            DashboardStats dashboardStats, CourseCatalogService courseCatalogService,
+                            InvalidationBus invalidationBus, EnrollmentPartitionMaintenance partitionMaintenance,
+                            CourseRequirementIndex requirementIndex, SingleFlight singleFlight, GradeService gradeService,
+                            NotificationOutbox notificationOutbox, ArchivedEnrollmentRepository archivedEnrollmentRepository,
+                            @Value("${app.single-flight.catalog-wait-ms:5000}") long catalogWaitMs) {
         this.courseRepository = courseRepository;
         this.userRepository = userRepository;
-        this.jwtUtil = jwtUtil;
+        this.auditLogService = auditLogService;
+        this.courseSeatFeed = courseSeatFeed;
+        this.enrollmentProjection = enrollmentProjection;
+        this.enrollmentViewRepository = enrollmentViewRepository;
+        this.dashboardStats = dashboardStats;
+        this.courseCatalogService = courseCatalogService;
+        this.invalidationBus = invalidationBus;
+        this.partitionMaintenance = partitionMaintenance;
+        this.requirementIndex = requirementIndex;
+        this.singleFlight = singleFlight;
+        this.gradeService = gradeService;
+        this.notificationOutbox = notificationOutbox;
+        this.archivedEnrollmentRepository = archivedEnrollmentRepository;
+        this.catalogWait = Duration.ofMillis(catalogWaitMs);
     }
 
     @PostMapping
-    public ResponseEntity<?> createCourse(@RequestBody CourseRequest request, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> createCourse(@RequestBody CourseRequest request, @AuthenticationPrincipal String email) {
         logger.info("Processing course creation request: {}", request.getName());
         try {
-            String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
             User user = userRepository.findByEmail(email);
             if (user == null || !user.getRole().name().equals("ADMIN")) {
                 logger.warn("Unauthorized attempt to create course by email: {}", email);
@@ -41,13 +109,35 @@ public class CourseController {
                         .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can create courses"));
             }
 
+            AcademicTerm term;
+            try {
+                term = request.getTerm() != null ? AcademicTerm.parse(request.getTerm()) : AcademicTerm.current();
+            } catch (IllegalArgumentException e) {
+                logger.warn("Invalid term provided: {}", request.getTerm());
+                return ResponseEntity.badRequest()
+                        .body(new ErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage()));
+            }
+
             Course course = new Course();
             course.setName(request.getName());
             course.setDescription(request.getDescription());
             course.setInstructor(request.getInstructor());
             course.setMaxEnrollment(request.getMaxEnrollment());
-            course.setStatus("ACTIVE");
+            course.setStatus(CourseStatus.ACTIVE);
+            course.setTerm(term.toString());
+            String invalid = applyRequirements(course, request);
+            if (invalid != null) {
+                logger.warn("Invalid prerequisites or meetings for new course {}: {}", request.getName(), invalid);
+                return ResponseEntity.badRequest().body(new ErrorResponse(HttpStatus.BAD_REQUEST, invalid));
+            }
+            partitionMaintenance.ensurePartitions(term);
             courseRepository.save(course);
+            requirementIndex.refreshCourse(course.getId());
+            auditLogService.record(email, "COURSE_CREATED", "COURSE", course.getId(),
+                    "name=" + course.getName() + ", term=" + course.getTerm() + ", maxEnrollment=" + course.getMaxEnrollment());
+            courseSeatFeed.publish(course.getTenantId(), course.getId(), 0, course.getMaxEnrollment());
+            dashboardStats.onCourseCreated(course);
+            invalidationBus.publish(EntityChange.COURSE, course.getId(), "CREATED", course.getTenantId(), null);
             logger.info("Course created successfully: {}", request.getName());
             return ResponseEntity.ok("Course created successfully");
         } catch (Exception e) {
@@ -58,10 +148,9 @@ public class CourseController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateCourse(@PathVariable Long id, @RequestBody CourseRequest request, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> updateCourse(@PathVariable Long id, @RequestBody CourseRequest request, @AuthenticationPrincipal String email) {
         logger.info("Processing course update request for id: {}", id);
         try {
-            String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
             User user = userRepository.findByEmail(email);
             if (user == null || !user.getRole().name().equals("ADMIN")) {
                 logger.warn("Unauthorized attempt to update course by email: {}", email);
@@ -69,13 +158,26 @@ public class CourseController {
                         .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can update courses"));
             }
 
-            Course course = courseRepository.findById(id)
+            Course course = courseRepository.findByIdAndStatus(id, CourseStatus.ACTIVE)
                     .orElseThrow(() -> new IllegalArgumentException("Course not found"));
             course.setName(request.getName());
             course.setDescription(request.getDescription());
             course.setInstructor(request.getInstructor());
             course.setMaxEnrollment(request.getMaxEnrollment());
+            String invalid = applyRequirements(course, request);
+            if (invalid != null) {
+                logger.warn("Invalid prerequisites or meetings for course {}: {}", id, invalid);
+                return ResponseEntity.badRequest().body(new ErrorResponse(HttpStatus.BAD_REQUEST, invalid));
+            }
             courseRepository.save(course);
+            requirementIndex.refreshCourse(id);
+            auditLogService.record(email, "COURSE_UPDATED", "COURSE", id,
+                    "name=" + course.getName() + ", maxEnrollment=" + course.getMaxEnrollment());
+            long enrolled = courseRepository.countEnrollments(id, course.getTerm());
+            courseSeatFeed.publish(course.getTenantId(), id, (int) enrolled, course.getMaxEnrollment());
+            enrollmentProjection.onCourseChanged(course);
+            dashboardStats.onCourseUpdated(course);
+            invalidationBus.publish(EntityChange.COURSE, id, "UPDATED", course.getTenantId(), null);
             logger.info("Course updated successfully: {}", id);
             return ResponseEntity.ok("Course updated successfully");
         } catch (IllegalArgumentException e) {
@@ -90,10 +192,9 @@ public class CourseController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteCourse(@PathVariable Long id, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> deleteCourse(@PathVariable Long id, @AuthenticationPrincipal String email) {
         logger.info("Processing course deletion request for id: {}", id);
         try {
-            String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
             User user = userRepository.findByEmail(email);
             if (user == null || !user.getRole().name().equals("ADMIN")) {
                 logger.warn("Unauthorized attempt to delete course by email: {}", email);
@@ -101,9 +202,16 @@ public class CourseController {
                         .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can delete courses"));
             }
 
-            Course course = courseRepository.findById(id)
+            // Soft delete: the course and its enrollments stay until the archival job moves them out.
+            Course course = courseRepository.findByIdAndStatus(id, CourseStatus.ACTIVE)
                     .orElseThrow(() -> new IllegalArgumentException("Course not found"));
-            courseRepository.delete(course);
+            course.setStatus(CourseStatus.INACTIVE);
+            courseRepository.save(course);
+            auditLogService.record(email, "COURSE_DELETED", "COURSE", id, "name=" + course.getName());
+            courseSeatFeed.publishRemoved(course.getTenantId(), id);
+            enrollmentProjection.onCourseChanged(course);
+            dashboardStats.onCourseUpdated(course);
+            invalidationBus.publish(EntityChange.COURSE, id, "DELETED", course.getTenantId(), null);
             logger.info("Course deleted successfully: {}", id);
             return ResponseEntity.ok("Course deleted successfully");
         } catch (IllegalArgumentException e) {
@@ -118,21 +226,17 @@ public class CourseController {
     }
 
     @GetMapping
+    @QueryBudget(3)
     public ResponseEntity<?> getCourses() {
         try {
-            List<CourseResponse> courses = courseRepository.findAll().stream()
-                    .map(course -> new CourseResponse(
-                            course.getId(),
-                            course.getName(),
-                            course.getDescription(),
-                            course.getInstructor(),
-                            course.getMaxEnrollment(),
-                            course.getStatus(),
-                            course.getStudents().size(),
-                            course.getStudents().stream().map(User::getId).collect(Collectors.toList())
-                    ))
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(courses);
+            // A course change evicts the catalog cache on every node; the burst of requests that follows shares one load
+            String tenant = TenantContext.current();
+            List<CourseResponse> courses = singleFlight.execute("courses:" + tenant, catalogWait,
+                    () -> courseCatalogService.getCourses(tenant));
+            return ResponseEntity.ok()
+                    .header(BinaryFormatConfig.SCHEMA_VERSION_HEADER, BinaryFormatConfig.LIST_SCHEMA_VERSION)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(courses);
         } catch (Exception e) {
             logger.error("Unexpected error fetching courses", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -140,35 +244,132 @@ public class CourseController {
         }
     }
 
+    @GetMapping("/{id}/roster")
+    @QueryBudget(4)
+    public ResponseEntity<?> getRoster(@PathVariable Long id, @AuthenticationPrincipal String email) {
+        try {
+            User user = userRepository.findByEmail(email);
+            if (user == null || user.getRole().name().equals("STUDENT")) {
+                logger.warn("Unauthorized attempt to view roster of course {} by email: {}", id, email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN, TEACHER or STAFF can view rosters"));
+            }
+
+            // enrollment_views has no tenant column; the course lookup keeps rosters within the caller's tenant
+            if (courseRepository.findByIdInCurrentTenant(id).isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(HttpStatus.NOT_FOUND, "Course not found"));
+            }
+            List<RosterEntryResponse> roster = enrollmentViewRepository
+                    .findByCourseIdOrderByStudentLastNameAscStudentFirstNameAsc(id).stream()
+                    .map(view -> new RosterEntryResponse(
+                            view.getStudentId(),
+                            view.getStudentFirstName(),
+                            view.getStudentLastName(),
+                            view.getStudentEmail(),
+                            view.getStudentStatus(),
+                            view.getEnrolledAt()))
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(roster);
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching roster for course: {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch roster: " + e.getMessage()));
+        }
+    }
+
+    @PutMapping("/{id}/grades")
+    public ResponseEntity<?> submitGrades(@PathVariable Long id, @RequestBody List<GradeRequest> request,
+                                          @AuthenticationPrincipal String email) {
+        logger.info("Processing {} grades for course: {}", request.size(), id);
+        try {
+            User user = userRepository.findByEmail(email);
+            if (user == null || !(user.getRole().name().equals("ADMIN") || user.getRole().name().equals("TEACHER"))) {
+                logger.warn("Unauthorized attempt to grade course {} by email: {}", id, email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN or TEACHER can submit grades"));
+            }
+
+            Course course = courseRepository.findByIdInCurrentTenant(id).orElse(null);
+            if (course == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(HttpStatus.NOT_FOUND, "Course not found"));
+            }
+            Map<Long, LetterGrade> grades = new LinkedHashMap<>();
+            for (GradeRequest entry : request) {
+                if (entry.getStudentId() == null || grades.put(entry.getStudentId(), LetterGrade.parse(entry.getGrade())) != null) {
+                    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                            .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Each grade needs a distinct studentId"));
+                }
+            }
+
+            int gpaUpdated = gradeService.submit(course, grades, email);
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("graded", grades.size());
+            response.put("gpaUpdated", gpaUpdated);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Grades for course {} rejected: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Unexpected error submitting grades for course: {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to submit grades: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping(path = "/seats/stream", produces = "text/event-stream")
+    public SseEmitter streamSeats() {
+        return courseSeatFeed.subscribe(TenantContext.current());
+    }
+
     @PostMapping("/enroll")
-    public ResponseEntity<?> enroll(@RequestBody EnrollRequest request, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> enroll(@RequestBody EnrollRequest request, @AuthenticationPrincipal String email) {
         logger.info("Processing enrollment request for course: {}", request.getCourseId());
         try {
-            String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
-            User student = userRepository.findByEmail(email);
+            User student = userRepository.findWithCoursesByEmail(email);
             if (student == null || !student.getRole().name().equals("STUDENT")) {
                 logger.warn("Unauthorized attempt to enroll by email: {}", email);
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only STUDENT can enroll"));
             }
 
-            Course course = courseRepository.findById(request.getCourseId())
+            // Count and membership checks go straight to the course's term partition instead of loading the roster
+            Course course = courseRepository.findByIdAndStatus(request.getCourseId(), CourseStatus.ACTIVE)
                     .orElseThrow(() -> new IllegalArgumentException("Course not found"));
-            if (course.getStudents().contains(student)) {
+            if (courseRepository.isEnrolled(course.getId(), student.getId(), course.getTerm())) {
                 logger.warn("Student already enrolled in course: {}", request.getCourseId());
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Student already enrolled in course"));
             }
-            if (course.getStudents().size() >= course.getMaxEnrollment()) {
+            // Prerequisites and timetable come from the in-memory index; the student's courses are already loaded,
+            // enrollments of terms past the partition retention come from the archive
+            long[] enrolledIds = LongStream.concat(
+                    student.getCourses().stream().mapToLong(Course::getId),
+                    archivedEnrollmentRepository.findCourseIdsByStudentId(student.getId()).stream().mapToLong(Long::longValue))
+                    .toArray();
+            String violation = requirementIndex.checkEnrollment(course.getId(), enrolledIds);
+            if (violation != null) {
+                logger.warn("Enrollment in course {} rejected: {}", request.getCourseId(), violation);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(new ErrorResponse(HttpStatus.BAD_REQUEST, violation));
+            }
+            long enrolled = courseRepository.countEnrollments(course.getId(), course.getTerm());
+            if (enrolled >= course.getMaxEnrollment()) {
                 logger.warn("Course enrollment limit reached: {}", request.getCourseId());
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Course enrollment limit reached"));
             }
 
             student.getCourses().add(course);
-            course.getStudents().add(student);
-            userRepository.save(student);
-            courseRepository.save(course);
+            notificationOutbox.runWith(() -> userRepository.save(student),
+                    () -> Notification.enrolled(student.getEmail(), course.getName(), course.getTerm()));
+            auditLogService.record(email, "ENROLLED", "COURSE", course.getId(), "studentId=" + student.getId());
+            courseSeatFeed.publish(course.getTenantId(), course.getId(), (int) enrolled + 1, course.getMaxEnrollment());
+            enrollmentProjection.onEnrolled(student, course);
+            dashboardStats.onEnrolled(course.getId());
+            invalidationBus.publish(EntityChange.COURSE, course.getId(), "ENROLLED", course.getTenantId(), null);
             logger.info("Student enrolled successfully in course: {}", request.getCourseId());
             return ResponseEntity.ok("Enrolled successfully");
         } catch (IllegalArgumentException e) {
@@ -181,6 +382,46 @@ public class CourseController {
                     .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Enrollment failed: " + e.getMessage()));
         }
     }
+    /**
+     * Replaces the course's meetings and prerequisites with those in the request; a list left out of the request
+     * keeps its current value. Returns the reason the request is invalid, or {@code null} once applied.
+     */
+    private String applyRequirements(Course course, CourseRequest request) {
+        Set<MeetingTime> meetings = null;
+        if (request.getMeetings() != null) {
+            meetings = new HashSet<>();
+            try {
+                for (MeetingTimeRequest meeting : request.getMeetings()) {
+                    meetings.add(MeetingTime.of(meeting.getDay(), meeting.getStart(), meeting.getEnd()));
+                }
+            } catch (IllegalArgumentException e) {
+                return e.getMessage();
+            }
+        }
+        List<Course> prerequisites = null;
+        if (request.getPrerequisiteIds() != null) {
+            List<Long> ids = request.getPrerequisiteIds().stream().distinct().collect(Collectors.toList());
+            if (course.getId() != null && ids.contains(course.getId())) {
+                return "A course cannot be its own prerequisite";
+            }
+            prerequisites = courseRepository.findAllById(ids);
+            if (prerequisites.size() != ids.size()) {
+                return "Unknown prerequisite course";
+            }
+            if (course.getId() != null && requirementIndex.createsCycle(course.getId(), ids)) {
+                return "Prerequisites would create a cycle";
+            }
+        }
+        if (meetings != null) {
+            course.getMeetings().clear();
+            course.getMeetings().addAll(meetings);
+        }
+        if (prerequisites != null) {
+            course.getPrerequisites().clear();
+            course.getPrerequisites().addAll(prerequisites);
+        }
+        return null;
+    }
 }
 
 class CourseRequest {
@@ -188,6 +429,9 @@ class CourseRequest {
     private String description;
     private String instructor;
     private int maxEnrollment;
+    private String term;
+    private List<Long> prerequisiteIds;
+    private List<MeetingTimeRequest> meetings;
 
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
@@ -197,6 +441,35 @@ class CourseRequest {
     public void setInstructor(String instructor) { this.instructor = instructor; }
     public int getMaxEnrollment() { return maxEnrollment; }
     public void setMaxEnrollment(int maxEnrollment) { this.maxEnrollment = maxEnrollment; }
+    public String getTerm() { return term; }
+    public void setTerm(String term) { this.term = term; }
+    public List<Long> getPrerequisiteIds() { return prerequisiteIds; }
+    public void setPrerequisiteIds(List<Long> prerequisiteIds) { this.prerequisiteIds = prerequisiteIds; }
+    public List<MeetingTimeRequest> getMeetings() { return meetings; }
+    public void setMeetings(List<MeetingTimeRequest> meetings) { this.meetings = meetings; }
+}
+
+class MeetingTimeRequest {
+    private String day;
+    private String start;
+    private String end;
+
+    public String getDay() { return day; }
+    public void setDay(String day) { this.day = day; }
+    public String getStart() { return start; }
+    public void setStart(String start) { this.start = start; }
+    public String getEnd() { return end; }
+    public void setEnd(String end) { this.end = end; }
+}
+
+class GradeRequest {
+    private Long studentId;
+    private String grade;
+
+    public Long getStudentId() { return studentId; }
+    public void setStudentId(Long studentId) { this.studentId = studentId; }
+    public String getGrade() { return grade; }
+    public void setGrade(String grade) { this.grade = grade; }
 }
 
 class EnrollRequest {
@@ -206,34 +479,27 @@ class EnrollRequest {
     public void setCourseId(Long courseId) { this.courseId = courseId; }
 }
 
-class CourseResponse {
-    private final Long id;
-    private final String name;
-    private final String description;
-    private final String instructor;
-    private final int maxEnrollment;
-    private final String status;
-    private final int enrollmentCount;
-    private final List<Long> studentIds;
-
-    public CourseResponse(Long id, String name, String description, String instructor, int maxEnrollment, String status, int enrollmentCount, List<Long> studentIds) {
-        this.id = id;
-        this.name = name;
-        this.description = description;
-        this.instructor = instructor;
-        this.maxEnrollment = maxEnrollment;
+class RosterEntryResponse {
+    private final Long studentId;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final UserStatus status;
+    private final LocalDateTime enrolledAt;
+
+    public RosterEntryResponse(Long studentId, String firstName, String lastName, String email, UserStatus status, LocalDateTime enrolledAt) {
+        this.studentId = studentId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
         this.status = status;
-        this.enrollmentCount = enrollmentCount;
-        this.studentIds = studentIds;
+        this.enrolledAt = enrolledAt;
     }
 
-    public Long getId() { return id; }
-    public String getName() { return name; }
-    public String getDescription() { return description; }
-    public String getInstructor() { return instructor; }
-    public int getMaxEnrollment() { return maxEnrollment; }
-    public String getStatus() { return status; }
-    public int getEnrollmentCount() { return enrollmentCount; }
-    public List<Long> getStudentIds() { return studentIds; }
+    public Long getStudentId() { return studentId; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public String getEmail() { return email; }
+    public UserStatus getStatus() { return status; }
+    public LocalDateTime getEnrolledAt() { return enrolledAt; }
 }
-
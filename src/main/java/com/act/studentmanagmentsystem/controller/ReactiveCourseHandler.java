@@ -0,0 +1,294 @@
+package com.act.studentmanagmentsystem.controller;
+
+import com.act.studentmanagmentsystem.config.BinaryFormatConfig;
+import com.act.studentmanagmentsystem.dto.CourseResponse;
+import com.act.studentmanagmentsystem.entity.CourseStatus;
+import com.act.studentmanagmentsystem.service.AuditLogService;
+import com.act.studentmanagmentsystem.service.CourseRequirementIndex;
+import com.act.studentmanagmentsystem.service.CourseSeatFeed;
+import com.act.studentmanagmentsystem.service.DashboardStats;
+import com.act.studentmanagmentsystem.service.EntityChange;
+import com.act.studentmanagmentsystem.service.InvalidationBus;
+import com.act.studentmanagmentsystem.service.JwtUtil;
+import com.act.studentmanagmentsystem.service.Notification;
+import com.act.studentmanagmentsystem.service.NotificationOutbox;
+import com.act.studentmanagmentsystem.service.TenantContext;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+
+/**
+ * Non-blocking (R2DBC) variant of the catalog and enrollment endpoints of {@link CourseController}, served by the
+ * reactive server started in {@code ReactiveServerConfig}. Responses and error messages match the MVC endpoints.
+ */
+public class ReactiveCourseHandler {
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCourseHandler.class);
+
+    private static final List<MediaType> CATALOG_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_JSON, MediaType.valueOf("application/x-jackson-smile"), MediaType.APPLICATION_CBOR);
+
+    private static final String CATALOG_SQL = """
+            SELECT c.id, c.name, c.description, c.instructor, c.max_enrollment, c.status, c.term,
+                   COALESCE(array_agg(uc.user_id) FILTER (WHERE uc.user_id IS NOT NULL), '{}') AS student_ids
+            FROM courses c LEFT JOIN user_courses uc ON uc.course_id = c.id
+            WHERE c.tenant_id = :tenant AND c.status = 'ACTIVE'
+            GROUP BY c.id
+            ORDER BY c.id
+            """;
+
+    private static final String PROJECT_ENROLLMENT_SQL = """
+            INSERT INTO enrollment_views (student_id, course_id, student_first_name, student_last_name, student_email,
+                                          student_status, course_name, course_instructor, course_status, term, enrolled_at)
+            SELECT u.id, c.id, u.first_name, u.last_name, u.email, u.status, c.name, c.instructor, c.status, c.term, now()
+            FROM users u, courses c
+            WHERE u.id = :studentId AND c.id = :courseId
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final DatabaseClient db;
+    private final TransactionalOperator transactionalOperator;
+    private final JwtUtil jwtUtil;
+    private final AuditLogService auditLogService;
+    private final CourseSeatFeed courseSeatFeed;
+    private final DashboardStats dashboardStats;
+    private final InvalidationBus invalidationBus;
+    private final CourseRequirementIndex requirementIndex;
+
+    public ReactiveCourseHandler(DatabaseClient db, TransactionalOperator transactionalOperator, JwtUtil jwtUtil,
+                                 AuditLogService auditLogService, CourseSeatFeed courseSeatFeed,
+                                 DashboardStats dashboardStats, InvalidationBus invalidationBus,
+                                 CourseRequirementIndex requirementIndex) {
+        this.db = db;
+        this.transactionalOperator = transactionalOperator;
+        this.jwtUtil = jwtUtil;
+        this.auditLogService = auditLogService;
+        this.courseSeatFeed = courseSeatFeed;
+        this.dashboardStats = dashboardStats;
+        this.invalidationBus = invalidationBus;
+        this.requirementIndex = requirementIndex;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route(GET("/api/course"), this::getCourses)
+                .andRoute(POST("/api/course/enroll"), this::enroll);
+    }
+
+    public Mono<ServerResponse> getCourses(ServerRequest request) {
+        String tenant = tenantOf(request, claimsOf(request));
+        if (tenant == null) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid tenant");
+        }
+        return db.sql(CATALOG_SQL)
+                .bind("tenant", tenant)
+                .map((row, metadata) -> {
+                    Long[] studentIds = row.get("student_ids", Long[].class);
+                    List<Long> ids = studentIds != null ? Arrays.asList(studentIds) : List.of();
+                    Integer maxEnrollment = row.get("max_enrollment", Integer.class);
+                    Long id = row.get("id", Long.class);
+                    return new CourseResponse(
+                            id,
+                            row.get("name", String.class),
+                            row.get("description", String.class),
+                            row.get("instructor", String.class),
+                            maxEnrollment != null ? maxEnrollment : 0,
+                            CourseStatus.valueOf(row.get("status", String.class)),
+                            row.get("term", String.class),
+                            ids.size(),
+                            ids,
+                            requirementIndex.getPrerequisiteIds(id),
+                            requirementIndex.getMeetings(id));
+                })
+                .all()
+                .collectList()
+                .flatMap(courses -> ServerResponse.ok()
+                        .contentType(negotiate(request))
+                        .header(BinaryFormatConfig.SCHEMA_VERSION_HEADER, BinaryFormatConfig.LIST_SCHEMA_VERSION)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                        .bodyValue(courses))
+                .onErrorResume(e -> {
+                    logger.error("Unexpected error fetching courses", e);
+                    return error(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch courses: " + e.getMessage());
+                });
+    }
+
+    public Mono<ServerResponse> enroll(ServerRequest request) {
+        Claims claims = claimsOf(request);
+        if (claims == null) {
+            return error(HttpStatus.FORBIDDEN, "Only STUDENT can enroll");
+        }
+        String email = claims.getSubject();
+        String tenant = tenantOf(request, claims);
+        if (tenant == null) {
+            return error(HttpStatus.BAD_REQUEST, "Invalid tenant");
+        }
+
+        return request.bodyToMono(EnrollRequest.class)
+                .flatMap(body -> enrollInTransaction(email, tenant, body.getCourseId())
+                        .as(transactionalOperator::transactional)
+                        .flatMap(outcome -> {
+                            if (outcome.status() != HttpStatus.OK) {
+                                return error(outcome.status(), outcome.message());
+                            }
+                            return afterCommit(email, tenant, outcome)
+                                    .then(ServerResponse.ok().contentType(MediaType.TEXT_PLAIN).bodyValue("Enrolled successfully"));
+                        })
+                        .onErrorResume(e -> {
+                            logger.error("Unexpected error enrolling in course: {}", body.getCourseId(), e);
+                            return error(HttpStatus.INTERNAL_SERVER_ERROR, "Enrollment failed: " + e.getMessage());
+                        }));
+    }
+
+    private Mono<Outcome> enrollInTransaction(String email, String tenant, Long courseId) {
+        return db.sql("SELECT id, role FROM users WHERE tenant_id = :tenant AND email = :email")
+                .bind("tenant", tenant)
+                .bind("email", email)
+                .map((row, metadata) -> new Object[]{row.get("id", Long.class), row.get("role", String.class)})
+                .one()
+                .filter(user -> "STUDENT".equals(user[1]))
+                .flatMap(user -> {
+                    Long studentId = (Long) user[0];
+                    return db.sql("""
+                                    SELECT max_enrollment, term, name FROM courses
+                                    WHERE id = :courseId AND tenant_id = :tenant AND status = 'ACTIVE'
+                                    FOR UPDATE
+                                    """)
+                            .bind("courseId", courseId)
+                            .bind("tenant", tenant)
+                            .map((row, metadata) -> new Object[]{row.get("max_enrollment", Integer.class),
+                                    row.get("term", String.class), row.get("name", String.class)})
+                            .one()
+                            .flatMap(course -> {
+                                int max = (Integer) course[0];
+                                String term = (String) course[1];
+                                Notification notification = Notification.enrolled(email, (String) course[2], term);
+                                // Prerequisites and timetable are checked against the in-memory index
+                                return db.sql("""
+                                        SELECT course_id FROM user_courses WHERE user_id = :studentId
+                                        UNION ALL SELECT course_id FROM archived_enrollments WHERE student_id = :studentId
+                                        """)
+                                    .bind("studentId", studentId)
+                                    .map((row, metadata) -> row.get("course_id", Long.class))
+                                    .all()
+                                    .collectList()
+                                    .flatMap(enrolledIds -> {
+                                        String violation = requirementIndex.checkEnrollment(courseId,
+                                                enrolledIds.stream().mapToLong(Long::longValue).toArray());
+                                        if (violation != null) {
+                                            logger.warn("Enrollment in course {} rejected: {}", courseId, violation);
+                                            return Mono.just(Outcome.rejected(HttpStatus.BAD_REQUEST, violation));
+                                        }
+                                        // The term predicate prunes user_courses to the course's partition
+                                        return db.sql("""
+                                                    SELECT COUNT(*) AS enrolled, COUNT(*) FILTER (WHERE user_id = :studentId) AS mine
+                                                    FROM user_courses WHERE course_id = :courseId AND term = :term
+                                                    """)
+                                            .bind("studentId", studentId)
+                                            .bind("courseId", courseId)
+                                            .bind("term", term)
+                                            .map((row, metadata) -> new long[]{row.get("enrolled", Long.class), row.get("mine", Long.class)})
+                                            .one()
+                                            .flatMap(counts -> {
+                                                if (counts[1] > 0) {
+                                                    logger.warn("Student already enrolled in course: {}", courseId);
+                                                    return Mono.just(Outcome.rejected(HttpStatus.BAD_REQUEST, "Student already enrolled in course"));
+                                                }
+                                                if (counts[0] >= max) {
+                                                    logger.warn("Course enrollment limit reached: {}", courseId);
+                                                    return Mono.just(Outcome.rejected(HttpStatus.BAD_REQUEST, "Course enrollment limit reached"));
+                                                }
+                                                return db.sql("INSERT INTO user_courses (user_id, course_id, term) VALUES (:studentId, :courseId, :term)")
+                                                        .bind("studentId", studentId)
+                                                        .bind("courseId", courseId)
+                                                        .bind("term", term)
+                                                        .then()
+                                                        .then(db.sql(PROJECT_ENROLLMENT_SQL)
+                                                                .bind("studentId", studentId)
+                                                                .bind("courseId", courseId)
+                                                                .then())
+                                                        .then(db.sql(NotificationOutbox.ENQUEUE_SQL)
+                                                                .bind("type", notification.type())
+                                                                .bind("recipient", notification.recipient())
+                                                                .bind("subject", notification.subject())
+                                                                .bind("body", notification.body())
+                                                                .then())
+                                                        .thenReturn(new Outcome(HttpStatus.OK, null, studentId, courseId,
+                                                                (int) counts[0] + 1, max));
+                                            });
+                                    });
+                            })
+                            .switchIfEmpty(Mono.fromSupplier(() -> Outcome.rejected(HttpStatus.NOT_FOUND, "Course not found")));
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    logger.warn("Unauthorized attempt to enroll by email: {}", email);
+                    return Outcome.rejected(HttpStatus.FORBIDDEN, "Only STUDENT can enroll");
+                }));
+    }
+
+    private Mono<Void> afterCommit(String email, String tenant, Outcome outcome) {
+        auditLogService.record(email, "ENROLLED", "COURSE", outcome.courseId(), "studentId=" + outcome.studentId());
+        courseSeatFeed.publish(tenant, outcome.courseId(), outcome.enrolled(), outcome.maxEnrollment());
+        dashboardStats.onEnrolled(outcome.courseId());
+        logger.info("Student enrolled successfully in course: {}", outcome.courseId());
+        // The bus may block on JDBC, keep it off the event loop.
+        return Mono.fromRunnable(() -> invalidationBus.publish(EntityChange.COURSE, outcome.courseId(), "ENROLLED", tenant, null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    // Verified claims of the bearer token, or null if there is none or it is invalid
+    private Claims claimsOf(ServerRequest request) {
+        String token = JwtUtil.bearerToken(request.headers().firstHeader(HttpHeaders.AUTHORIZATION));
+        return token != null ? jwtUtil.parseClaims(token) : null;
+    }
+
+    // Same rules as JwtAuthenticationFilter: the token's tenant, else the header for anonymous callers; null if invalid
+    private String tenantOf(ServerRequest request, Claims claims) {
+        String tenant = claims != null
+                ? claims.get("tenant", String.class)
+                : request.headers().firstHeader(TenantContext.TENANT_HEADER);
+        if (tenant == null) {
+            return TenantContext.DEFAULT_TENANT;
+        }
+        return TenantContext.isValid(tenant) ? tenant : null;
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErrorResponse(status, message));
+    }
+
+    private record Outcome(HttpStatus status, String message, Long studentId, Long courseId, int enrolled, int maxEnrollment) {
+        static Outcome rejected(HttpStatus status, String message) {
+            return new Outcome(status, message, null, null, 0, 0);
+        }
+    }
+
+    // JSON unless the client explicitly asks for one of the binary encodings registered in ReactiveCourseServer
+    private static MediaType negotiate(ServerRequest request) {
+        for (MediaType acceptable : request.headers().accept()) {
+            for (MediaType candidate : CATALOG_MEDIA_TYPES) {
+                if (!acceptable.isWildcardType() && acceptable.isCompatibleWith(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
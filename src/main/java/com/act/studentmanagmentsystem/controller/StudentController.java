@@ -1,13 +1,14 @@
 package com.act.studentmanagmentsystem.controller;
 
+import com.act.studentmanagmentsystem.entity.AcademicTerm;
 import com.act.studentmanagmentsystem.entity.User;
 import com.act.studentmanagmentsystem.entity.Course;
 import com.act.studentmanagmentsystem.entity.StudentCourse;
 import com.act.studentmanagmentsystem.repository.UserRepository;
 import com.act.studentmanagmentsystem.repository.CourseRepository;
 import com.act.studentmanagmentsystem.repository.StudentCourseRepository;
-import com.act.studentmanagmentsystem.service.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,19 +19,19 @@ public class StudentController {
     @Autowired private UserRepository userRepository;
     @Autowired private CourseRepository courseRepository;
     @Autowired private StudentCourseRepository studentCourseRepository;
-    @Autowired private JwtUtil jwtUtil;
 
     @GetMapping("/profile")
-    public User getProfile(@RequestHeader("Authorization") String token) {
-        String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
+    public User getProfile(@AuthenticationPrincipal String email) {
         return userRepository.findByEmail(email);
     }
 
     @GetMapping("/courses")
-    public List<Course> getCourses(@RequestHeader("Authorization") String token) {
-        String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
+    public List<Course> getCourses(@AuthenticationPrincipal String email,
+                                   @RequestParam(required = false) String term) {
         User user = userRepository.findByEmail(email);
-        List<StudentCourse> enrollments = studentCourseRepository.findByStudent(user);
+        List<StudentCourse> enrollments = term != null
+                ? studentCourseRepository.findByStudentAndTerm(user, AcademicTerm.parse(term).toString())
+                : studentCourseRepository.findByStudent(user);
         return enrollments.stream().map(StudentCourse::getCourse).collect(Collectors.toList());
     }
 }
\ No newline at end of file
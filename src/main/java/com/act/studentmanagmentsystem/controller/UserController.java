@@ -1,30 +1,57 @@
 package com.act.studentmanagmentsystem.controller;
 
-
+import com.act.studentmanagmentsystem.config.BinaryFormatConfig;
+import com.act.studentmanagmentsystem.entity.AcademicTerm;
 import com.act.studentmanagmentsystem.entity.Course;
+import com.act.studentmanagmentsystem.entity.CourseStatus;
+import com.act.studentmanagmentsystem.entity.EnrollmentView;
 import com.act.studentmanagmentsystem.entity.Role;
 import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.entity.UserStatus;
 import com.act.studentmanagmentsystem.repository.CourseRepository;
+import com.act.studentmanagmentsystem.repository.EnrollmentViewRepository;
 import com.act.studentmanagmentsystem.repository.UserRepository;
-import com.act.studentmanagmentsystem.service.JwtUtil;
+import com.act.studentmanagmentsystem.service.AuditLogService;
+import com.act.studentmanagmentsystem.service.DashboardStats;
+import com.act.studentmanagmentsystem.service.EnrollmentProjection;
+import com.act.studentmanagmentsystem.service.EntityChange;
+import com.act.studentmanagmentsystem.service.InvalidationBus;
+import com.act.studentmanagmentsystem.service.Notification;
+import com.act.studentmanagmentsystem.service.NotificationOutbox;
+import com.act.studentmanagmentsystem.service.PasswordSetupService;
+import com.act.studentmanagmentsystem.service.QueryBudget;
+import com.act.studentmanagmentsystem.service.SingleFlight;
+import com.act.studentmanagmentsystem.service.StudentExportService;
+import com.act.studentmanagmentsystem.service.TenantContext;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.persistence.criteria.Join;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+// Responses are returned as ResponseEntity<?>, so native images need their binding hints spelled out
+@RegisterReflectionForBinding({UserResponse.class, ScheduleEntryResponse.class, ErrorResponse.class})
 @RestController
 @RequestMapping("/api/user")
 public class UserController {
@@ -33,20 +60,43 @@ public class UserController {
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
     private final BCryptPasswordEncoder passwordEncoder;
-    private final JwtUtil jwtUtil;
-
-    public UserController(UserRepository userRepository, CourseRepository courseRepository, BCryptPasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    private final AuditLogService auditLogService;
+    private final EnrollmentProjection enrollmentProjection;
+    private final EnrollmentViewRepository enrollmentViewRepository;
+    private final DashboardStats dashboardStats;
+    private final StudentExportService studentExportService;
+    private final InvalidationBus invalidationBus;
+    private final SingleFlight singleFlight;
+    private final NotificationOutbox notificationOutbox;
+    private final PasswordSetupService passwordSetupService;
+    private final Duration statsWait;
+
+    public UserController(UserRepository userRepository, CourseRepository courseRepository, BCryptPasswordEncoder passwordEncoder,
+                          AuditLogService auditLogService, EnrollmentProjection enrollmentProjection,
+                          EnrollmentViewRepository enrollmentViewRepository, DashboardStats dashboardStats,
+                          StudentExportService studentExportService, InvalidationBus invalidationBus,
+                          SingleFlight singleFlight, NotificationOutbox notificationOutbox,
+                          PasswordSetupService passwordSetupService,
+                          @Value("${app.single-flight.stats-wait-ms:2000}") long statsWaitMs) {
         this.userRepository = userRepository;
         this.courseRepository = courseRepository;
         this.passwordEncoder = passwordEncoder;
-        this.jwtUtil = jwtUtil;
+        this.auditLogService = auditLogService;
+        this.enrollmentProjection = enrollmentProjection;
+        this.enrollmentViewRepository = enrollmentViewRepository;
+        this.dashboardStats = dashboardStats;
+        this.studentExportService = studentExportService;
+        this.invalidationBus = invalidationBus;
+        this.singleFlight = singleFlight;
+        this.notificationOutbox = notificationOutbox;
+        this.passwordSetupService = passwordSetupService;
+        this.statsWait = Duration.ofMillis(statsWaitMs);
     }
 
     @PutMapping("/profile")
-    public ResponseEntity<?> updateProfile(@RequestBody UpdateProfileRequest request, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> updateProfile(@RequestBody UpdateProfileRequest request, @AuthenticationPrincipal String email) {
         logger.info("Processing profile update request");
         try {
-            String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
             User user = userRepository.findByEmail(email);
             if (user == null) {
                 logger.warn("User not found for email: {}", email);
@@ -62,7 +112,14 @@ public class UserController {
                 user.setMustChangePassword(false);
             }
 
-            userRepository.save(user);
+            boolean passwordChanged = request.getPassword() != null;
+            notificationOutbox.runWith(() -> userRepository.save(user), () -> Notification.profileUpdated(user, passwordChanged));
+            auditLogService.record(email, "PROFILE_UPDATED", "USER", user.getId(),
+                    passwordChanged ? "passwordChanged=true" : null);
+            if (user.getRole() == Role.STUDENT) {
+                enrollmentProjection.onStudentChanged(user);
+            }
+            invalidationBus.publish(EntityChange.USER, user.getId(), "UPDATED", user.getTenantId(), null);
             logger.info("Profile updated successfully for email: {}", email);
             return ResponseEntity.ok("Profile updated successfully");
         } catch (Exception e) {
@@ -73,10 +130,9 @@ public class UserController {
     }
 
     @PostMapping("/admin/create")
-    public ResponseEntity<?> createUserByAdmin(@RequestBody AdminCreateUserRequest request, @RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> createUserByAdmin(@RequestBody AdminCreateUserRequest request, @AuthenticationPrincipal String adminEmail) {
         logger.info("Processing admin create user request for email: {}", request.getEmail());
         try {
-            String adminEmail = jwtUtil.extractEmail(token.replace("Bearer ", ""));
             User admin = userRepository.findByEmail(adminEmail);
             if (admin == null || !admin.getRole().name().equals("ADMIN")) {
                 logger.warn("Unauthorized attempt to create user by email: {}", adminEmail);
@@ -93,21 +149,36 @@ public class UserController {
                         .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Invalid role: " + request.getRole()));
             }
 
+            UserStatus status;
+            try {
+                status = request.getStatus() != null ? UserStatus.valueOf(request.getStatus()) : UserStatus.ACTIVE;
+            } catch (IllegalArgumentException e) {
+                logger.warn("Invalid status provided: {}", request.getStatus());
+                return ResponseEntity.badRequest()
+                        .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Invalid status: " + request.getStatus()));
+            }
+
             User user = new User();
             user.setFirstName(request.getFirstName());
             user.setLastName(request.getLastName());
             user.setEmail(request.getEmail());
-            user.setPassword(passwordEncoder.encode("changeMe123"));
+            String setupLink = passwordSetupService.issue(user);
             user.setRole(role);
-            user.setMustChangePassword(true);
             user.setPhone(request.getPhone());
             user.setGpa(request.getGpa());
-            user.setStatus(request.getStatus() != null ? request.getStatus() : "ACTIVE");
+            user.setStatus(status);
             user.setCreatedAt(LocalDateTime.now());
 
-            userRepository.save(user);
+            // The setup link only leaves the server in the notification to the new user
+            notificationOutbox.runWith(() -> userRepository.save(user), () -> Notification.accountCreated(user, setupLink));
+            auditLogService.record(adminEmail, "USER_CREATED", "USER", user.getId(),
+                    "email=" + user.getEmail() + ", role=" + role.name());
+            dashboardStats.onUserCreated(user);
+            invalidationBus.publish(EntityChange.USER, user.getId(), "CREATED", user.getTenantId(),
+                    DashboardStats.userCreatedDelta(user));
             logger.info("User created successfully by admin: {}", request.getEmail());
-            return ResponseEntity.ok("User created successfully with default password 'changeMe123'. The user must change it on first login.");
+            return ResponseEntity.ok("User created successfully. A link to choose a password has been sent to "
+                    + user.getEmail() + ".");
         } catch (DataIntegrityViolationException e) {
             logger.warn("User creation failed: Email already exists: {}", request.getEmail());
             return ResponseEntity.status(HttpStatus.CONFLICT)
@@ -119,9 +190,50 @@ public class UserController {
         }
     }
 
+    /**
+     * Issues a new password setup link for an account that has not chosen its password yet, e.g. because the
+     * notification was not delivered or the link expired. The link is returned once and replaces the previous one.
+     */
+    @PostMapping("/admin/{id}/password-setup")
+    public ResponseEntity<?> reissuePasswordSetup(@PathVariable Long id, @AuthenticationPrincipal String adminEmail) {
+        try {
+            User admin = userRepository.findByEmail(adminEmail);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to issue a password setup link by email: {}", adminEmail);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can issue password setup links"));
+            }
+            User user = userRepository.findByIdInCurrentTenant(id).orElse(null);
+            if (user == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(HttpStatus.NOT_FOUND, "User not found with ID: " + id));
+            }
+            if (!user.isMustChangePassword()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(new ErrorResponse(HttpStatus.CONFLICT, "User has already chosen a password"));
+            }
+
+            String setupLink = passwordSetupService.issue(user);
+            userRepository.save(user);
+            auditLogService.record(adminEmail, "PASSWORD_SETUP_ISSUED", "USER", user.getId(), null);
+            logger.info("Password setup link reissued for user {} by {}", id, adminEmail);
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("setupLink", setupLink);
+            response.put("expiresAt", user.getPasswordSetupExpiresAt());
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                    .body(response);
+        } catch (Exception e) {
+            logger.error("Unexpected error issuing a password setup link for user {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to issue password setup link: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/students")
+    @QueryBudget(6)
     public ResponseEntity<?> getStudents(
-            @RequestHeader("Authorization") String token,
+            @AuthenticationPrincipal String email,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String search,
@@ -130,7 +242,6 @@ public class UserController {
             @RequestParam(required = false) Double maxGpa,
             @RequestParam(required = false) Long courseId) {
         try {
-            String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
             User admin = userRepository.findByEmail(email);
             if (admin == null || !admin.getRole().name().equals("ADMIN")) {
                 logger.warn("Unauthorized attempt to view students by email: {}", email);
@@ -152,7 +263,14 @@ public class UserController {
             }
 
             if (status != null && !status.isEmpty()) {
-                spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), status));
+                UserStatus userStatus;
+                try {
+                    userStatus = UserStatus.valueOf(status);
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.badRequest()
+                            .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Invalid status: " + status));
+                }
+                spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), userStatus));
             }
 
             if (minGpa != null) {
@@ -185,14 +303,17 @@ public class UserController {
                             user.getCourses().stream().map(Course::getName).collect(Collectors.toList())))
                     .collect(Collectors.toList());
 
-            Map<String, Object> response = Map.of(
-                    "students", students,
-                    "currentPage", userPage.getNumber(),
-                    "totalItems", userPage.getTotalElements(),
-                    "totalPages", userPage.getTotalPages()
-            );
-
-            return ResponseEntity.ok(response);
+            // Insertion order keeps the field order of the page envelope stable across requests and formats
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("students", students);
+            response.put("currentPage", userPage.getNumber());
+            response.put("totalItems", userPage.getTotalElements());
+            response.put("totalPages", userPage.getTotalPages());
+
+            return ResponseEntity.ok()
+                    .header(BinaryFormatConfig.SCHEMA_VERSION_HEADER, BinaryFormatConfig.LIST_SCHEMA_VERSION)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(response);
         } catch (Exception e) {
             logger.error("Unexpected error fetching students", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -200,11 +321,71 @@ public class UserController {
         }
     }
 
+    @GetMapping("/students/export")
+    public ResponseEntity<?> exportStudents(
+            @AuthenticationPrincipal String email,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Double minGpa,
+            @RequestParam(required = false) Double maxGpa,
+            @RequestParam(required = false) Long courseId) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to export students by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can export students"));
+            }
+
+            StudentExportService.Format exportFormat;
+            try {
+                exportFormat = StudentExportService.Format.valueOf(format.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Invalid export format provided: {}", format);
+                return ResponseEntity.badRequest()
+                        .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Invalid format: " + format));
+            }
+
+            UserStatus userStatus = null;
+            if (status != null && !status.isEmpty()) {
+                try {
+                    userStatus = UserStatus.valueOf(status);
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Invalid status provided: {}", status);
+                    return ResponseEntity.badRequest()
+                            .body(new ErrorResponse(HttpStatus.BAD_REQUEST, "Invalid status: " + status));
+                }
+            }
+
+            String filename = "students." + exportFormat.name().toLowerCase() + (gzip ? ".gz" : "");
+            MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                    : exportFormat == StudentExportService.Format.CSV ? MediaType.parseMediaType("text/csv; charset=UTF-8")
+                    : MediaType.parseMediaType("application/x-ndjson");
+            // The body is written on an async thread, so the tenant is captured here
+            String tenant = TenantContext.current();
+            UserStatus statusFilter = userStatus;
+            StreamingResponseBody body = out -> studentExportService.export(
+                    tenant, search, statusFilter, minGpa, maxGpa, courseId, exportFormat, gzip, out);
+
+            logger.info("Starting student export as {} for admin: {}", filename, email);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                    .contentType(contentType)
+                    .body(body);
+        } catch (Exception e) {
+            logger.error("Unexpected error exporting students", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to export students: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/students/{id}")
-    public ResponseEntity<?> getStudentById(@PathVariable Long id, @RequestHeader("Authorization") String token) {
+    @QueryBudget(3)
+    public ResponseEntity<?> getStudentById(@PathVariable Long id, @AuthenticationPrincipal String email) {
         logger.info("Processing request to view student details for ID: {}", id);
         try {
-            String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
             User admin = userRepository.findByEmail(email);
             if (admin == null || !admin.getRole().name().equals("ADMIN")) {
                 logger.warn("Unauthorized attempt to view student details by email: {}", email);
@@ -212,7 +393,7 @@ public class UserController {
                         .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can view student details"));
             }
 
-            User user = userRepository.findById(id).orElse(null);
+            User user = userRepository.findWithCoursesById(id).orElse(null);
             if (user == null || !user.getRole().equals(Role.STUDENT)) {
                 logger.warn("Student not found or not a student for ID: {}", id);
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -241,27 +422,22 @@ public class UserController {
         }
     }
     @GetMapping("/stats")
-    public ResponseEntity<?> getStats(@RequestHeader("Authorization") String token) {
+    @QueryBudget(2)
+    public ResponseEntity<?> getStats(@AuthenticationPrincipal String email) {
         try {
-            String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
             User admin = userRepository.findByEmail(email);
             if (admin == null || !admin.getRole().name().equals("ADMIN")) {
                 logger.warn("Unauthorized attempt to view stats by email: {}", email);
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can view stats"));
             }
-            long totalStudents = userRepository.countByRole(Role.STUDENT);
-            long activeCourses = courseRepository.countByStatus("ACTIVE");
-            double avgGpa = userRepository.findByRole(Role.STUDENT).stream()
-                    .filter(u -> u.getGpa() != null)
-                    .mapToDouble(User::getGpa)
-                    .average()
-                    .orElse(0.0);
-            return ResponseEntity.ok(Map.of(
-                    "totalStudents", totalStudents,
-                    "activeCourses", activeCourses,
-                    "avgPerformance", Math.round(avgGpa * 25.0)
+            String tenant = TenantContext.current();
+            Map<String, Object> stats = singleFlight.execute("stats:" + tenant, statsWait, () -> Map.of(
+                    "totalStudents", dashboardStats.getTotalStudents(tenant),
+                    "activeCourses", dashboardStats.getActiveCourses(tenant),
+                    "avgPerformance", Math.round(dashboardStats.getAverageStudentGpa(tenant) * 25.0)
             ));
+            return ResponseEntity.ok(stats);
         } catch (Exception e) {
             logger.error("Unexpected error fetching stats", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -269,16 +445,75 @@ public class UserController {
         }
     }
 
-    @GetMapping("/profile")
-    public ResponseEntity<?> getProfile(@RequestHeader("Authorization") String token) {
+    @GetMapping("/stats/dashboard")
+    @QueryBudget(2)
+    public ResponseEntity<?> getDashboard(@AuthenticationPrincipal String email,
+                                          @RequestParam(defaultValue = "30") int days) {
+        try {
+            User admin = userRepository.findByEmail(email);
+            if (admin == null || !admin.getRole().name().equals("ADMIN")) {
+                logger.warn("Unauthorized attempt to view dashboard by email: {}", email);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse(HttpStatus.FORBIDDEN, "Only ADMIN can view the dashboard"));
+            }
+            return ResponseEntity.ok(dashboardStats.snapshot(TenantContext.current(), days));
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching dashboard", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch dashboard: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/schedule")
+    @QueryBudget(3)
+    public ResponseEntity<?> getSchedule(@AuthenticationPrincipal String email,
+                                         @RequestParam(required = false) String term) {
         try {
-            String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
             User user = userRepository.findByEmail(email);
             if (user == null) {
                 logger.warn("User not found for email: {}", email);
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(new ErrorResponse(HttpStatus.NOT_FOUND, "User not found"));
             }
+            List<EnrollmentView> views;
+            if (term != null && !term.isEmpty()) {
+                AcademicTerm academicTerm;
+                try {
+                    academicTerm = AcademicTerm.parse(term);
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.badRequest().body(new ErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage()));
+                }
+                views = enrollmentViewRepository.findByStudentIdAndTermOrderByCourseNameAsc(user.getId(), academicTerm.toString());
+            } else {
+                views = enrollmentViewRepository.findByStudentIdOrderByCourseNameAsc(user.getId());
+            }
+            List<ScheduleEntryResponse> schedule = views.stream()
+                    .map(view -> new ScheduleEntryResponse(
+                            view.getCourseId(),
+                            view.getCourseName(),
+                            view.getCourseInstructor(),
+                            view.getCourseStatus(),
+                            view.getTerm(),
+                            view.getEnrolledAt()))
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(schedule);
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching schedule", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch schedule: " + e.getMessage()));
+        }
+    }
+
+    @GetMapping("/profile")
+    @QueryBudget(3)
+    public ResponseEntity<?> getProfile(@AuthenticationPrincipal String email) {
+        try {
+            User user = userRepository.findWithCoursesByEmail(email);
+            if (user == null) {
+                logger.warn("User not found for email: {}", email);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse(HttpStatus.NOT_FOUND, "User not found"));
+            }
             UserResponse response = new UserResponse(
                     user.getId(),
                     user.getFirstName(),
@@ -298,6 +533,7 @@ public class UserController {
                     .body(new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch profile: " + e.getMessage()));
         }
     }
+
 }
 
 class UpdateProfileRequest {
@@ -341,6 +577,7 @@ class AdminCreateUserRequest {
     public void setStatus(String status) { this.status = status; }
 }
 
+@JsonPropertyOrder({"id", "firstName", "lastName", "email", "phone", "gpa", "status", "createdAt", "role", "courses"})
 class UserResponse {
     private final Long id;
     private final String firstName;
@@ -348,12 +585,12 @@ class UserResponse {
     private final String email;
     private final String phone;
     private final Double gpa;
-    private final String status;
+    private final UserStatus status;
     private final String createdAt;
     private final String role;
     private final List<String> courses;
 
-    public UserResponse(Long id, String firstName, String lastName, String email, String phone, Double gpa, String status, String createdAt, String role, List<String> courses) {
+    public UserResponse(Long id, String firstName, String lastName, String email, String phone, Double gpa, UserStatus status, String createdAt, String role, List<String> courses) {
         this.id = id;
         this.firstName = firstName;
         this.lastName = lastName;
@@ -372,9 +609,33 @@ class UserResponse {
     public String getEmail() { return email; }
     public String getPhone() { return phone; }
     public Double getGpa() { return gpa; }
-    public String getStatus() { return status; }
+    public UserStatus getStatus() { return status; }
     public String getCreatedAt() { return createdAt; }
     public String getRole() { return role; }
     public List<String> getCourses() { return courses; }
 }
 
+class ScheduleEntryResponse {
+    private final Long courseId;
+    private final String name;
+    private final String instructor;
+    private final CourseStatus status;
+    private final String term;
+    private final LocalDateTime enrolledAt;
+
+    public ScheduleEntryResponse(Long courseId, String name, String instructor, CourseStatus status, String term, LocalDateTime enrolledAt) {
+        this.courseId = courseId;
+        this.name = name;
+        this.instructor = instructor;
+        this.status = status;
+        this.term = term;
+        this.enrolledAt = enrolledAt;
+    }
+
+    public Long getCourseId() { return courseId; }
+    public String getName() { return name; }
+    public String getInstructor() { return instructor; }
+    public CourseStatus getStatus() { return status; }
+    public String getTerm() { return term; }
+    public LocalDateTime getEnrolledAt() { return enrolledAt; }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.act.studentmanagmentsystem.dto;
+
+import com.act.studentmanagmentsystem.entity.CourseStatus;
+import com.act.studentmanagmentsystem.entity.MeetingTime;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.List;
+
+@JsonPropertyOrder({"id", "name", "description", "instructor", "maxEnrollment", "status", "term", "enrollmentCount", "studentIds", "prerequisiteIds", "meetings"})
+public class CourseResponse {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final String instructor;
+    private final int maxEnrollment;
+    private final CourseStatus status;
+    private final String term;
+    private final int enrollmentCount;
+    private final List<Long> studentIds;
+    private final List<Long> prerequisiteIds;
+    private final List<MeetingTime> meetings;
+
+    public CourseResponse(Long id, String name, String description, String instructor, int maxEnrollment, CourseStatus status, String term, int enrollmentCount, List<Long> studentIds,
+                          List<Long> prerequisiteIds, List<MeetingTime> meetings) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.instructor = instructor;
+        this.maxEnrollment = maxEnrollment;
+        this.status = status;
+        this.term = term;
+        this.enrollmentCount = enrollmentCount;
+        this.studentIds = studentIds;
+        this.prerequisiteIds = prerequisiteIds;
+        this.meetings = meetings;
+    }
+
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getDescription() { return description; }
+    public String getInstructor() { return instructor; }
+    public int getMaxEnrollment() { return maxEnrollment; }
+    public CourseStatus getStatus() { return status; }
+    public String getTerm() { return term; }
+    public int getEnrollmentCount() { return enrollmentCount; }
+    public List<Long> getStudentIds() { return studentIds; }
+    public List<Long> getPrerequisiteIds() { return prerequisiteIds; }
+    public List<MeetingTime> getMeetings() { return meetings; }
+}
@@ -0,0 +1,60 @@
+package com.act.studentmanagmentsystem.entity;
+
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Academic term such as {@code 2026-FALL}. Stored as its string form on courses and enrollments, where it is also
+ * the list-partition key of {@code user_courses} and {@code student_courses}.
+ */
+public record AcademicTerm(int year, Season season) implements Comparable<AcademicTerm> {
+    private static final Pattern FORMAT = Pattern.compile("(\\d{4})-(SPRING|SUMMER|FALL)");
+
+    public enum Season {
+        SPRING, SUMMER, FALL
+    }
+
+    public static AcademicTerm of(LocalDate date) {
+        int month = date.getMonthValue();
+        Season season = month <= 5 ? Season.SPRING : month <= 7 ? Season.SUMMER : Season.FALL;
+        return new AcademicTerm(date.getYear(), season);
+    }
+
+    public static AcademicTerm current() {
+        return of(LocalDate.now());
+    }
+
+    public static AcademicTerm parse(String value) {
+        Matcher matcher = value != null ? FORMAT.matcher(value.trim().toUpperCase()) : null;
+        if (matcher == null || !matcher.matches()) {
+            throw new IllegalArgumentException("Invalid term: " + value + " (expected e.g. 2026-FALL)");
+        }
+        return new AcademicTerm(Integer.parseInt(matcher.group(1)), Season.valueOf(matcher.group(2)));
+    }
+
+    public AcademicTerm plus(int terms) {
+        int index = index() + terms;
+        return new AcademicTerm(Math.floorDiv(index, 3), Season.values()[Math.floorMod(index, 3)]);
+    }
+
+    // Suffix of the partition holding this term, e.g. user_courses_2026_fall
+    public String partitionSuffix() {
+        return year + "_" + season.name().toLowerCase();
+    }
+
+    // Consecutive number of the term: the term after another has an index one higher
+    public int index() {
+        return year * 3 + season.ordinal();
+    }
+
+    @Override
+    public int compareTo(AcademicTerm other) {
+        return Integer.compare(index(), other.index());
+    }
+
+    @Override
+    public String toString() {
+        return year + "-" + season.name();
+    }
+}
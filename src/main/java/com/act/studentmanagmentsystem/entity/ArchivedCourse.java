@@ -0,0 +1,48 @@
+package com.act.studentmanagmentsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDateTime;
+
+// Cold copy of a course removed from the courses table by the archival job; the id is the original course id
+@Getter
+@Setter
+@Entity
+@Table(name = "archived_courses", indexes = {
+        @Index(name = "idx_archived_courses_archived_at", columnList = "archived_at"),
+        @Index(name = "idx_archived_courses_tenant_archived_at", columnList = "tenant_id, archived_at")
+})
+public class ArchivedCourse {
+    @Id
+    private Long id;
+
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column
+    private String description;
+
+    @Column
+    private String instructor;
+
+    @Column
+    private int maxEnrollment;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private CourseStatus status;
+
+    @Column(length = 16)
+    private String term;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
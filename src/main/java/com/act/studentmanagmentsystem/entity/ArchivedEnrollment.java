@@ -0,0 +1,39 @@
+package com.act.studentmanagmentsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+// Enrollment moved out of user_courses together with its course or student; no foreign keys, either side may be archived
+@Getter
+@Setter
+@Entity
+@Table(name = "archived_enrollments", indexes = {
+        @Index(name = "idx_archived_enrollments_course", columnList = "course_id")
+})
+@IdClass(ArchivedEnrollmentId.class)
+public class ArchivedEnrollment {
+    @Id
+    private Long studentId;
+
+    @Id
+    private Long courseId;
+
+    @Column
+    private String courseName;
+
+    @Column
+    private String courseInstructor;
+
+    @Column(length = 16)
+    private String term;
+
+    private LocalDateTime enrolledAt;
+
+    @Column(length = 8)
+    private String grade;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,55 @@
+package com.act.studentmanagmentsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDateTime;
+
+// Cold copy of a graduated student removed from the users table; credentials are not carried over
+@Getter
+@Setter
+@Entity
+@Table(name = "archived_users", indexes = {
+        @Index(name = "idx_archived_users_email", columnList = "email"),
+        @Index(name = "idx_archived_users_archived_at", columnList = "archived_at"),
+        @Index(name = "idx_archived_users_tenant_archived_at", columnList = "tenant_id, archived_at")
+})
+public class ArchivedUser {
+    @Id
+    private Long id;
+
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private String firstName;
+
+    @Column(nullable = false)
+    private String lastName;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Role role;
+
+    @Column
+    private String phone;
+
+    @Column
+    private Double gpa;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private UserStatus status;
+
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
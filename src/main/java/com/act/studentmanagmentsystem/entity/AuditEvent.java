@@ -0,0 +1,46 @@
+package com.act.studentmanagmentsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "audit_events", indexes = {
+        @Index(name = "idx_audit_entity", columnList = "entity_type, entity_id"),
+        @Index(name = "idx_audit_actor", columnList = "actor"),
+        @Index(name = "idx_audit_occurred_at", columnList = "occurred_at"),
+        @Index(name = "idx_audit_tenant_occurred_at", columnList = "tenant_id, occurred_at")
+})
+public class AuditEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column
+    private String actor;
+
+    @Column(nullable = false)
+    private String action; // USER_CREATED, PROFILE_UPDATED, COURSE_CREATED, ...
+
+    @Column(nullable = false)
+    private String entityType; // USER, COURSE
+
+    @Column
+    private Long entityId;
+
+    @Column(length = 1000)
+    private String details;
+}
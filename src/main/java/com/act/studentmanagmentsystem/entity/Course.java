@@ -3,18 +3,30 @@ package com.act.studentmanagmentsystem.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
-import java.util.ArrayList;
-import java.util.List;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.util.HashSet;
+import java.util.Set;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "courses")
+@Table(name = "courses", indexes = {
+        @Index(name = "idx_courses_term", columnList = "term"),
+        @Index(name = "idx_courses_tenant_status", columnList = "tenant_id, status")
+})
+@NamedEntityGraph(name = "Course.students", attributeNodes = @NamedAttributeNode("students"))
 public class Course {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
     @Column(nullable = false)
     private String name;
 
@@ -27,14 +39,37 @@ public class Course {
     @Column
     private int maxEnrollment = 50;
 
+    // INACTIVE marks a deleted course; it stays until the archival job moves it out of the hot tables
+    @Enumerated(EnumType.STRING)
     @Column
-    private String status = "ACTIVE"; // ACTIVE, INACTIVE
+    private CourseStatus status = CourseStatus.ACTIVE;
+
+    // AcademicTerm string, e.g. 2026-FALL; fixed at creation because enrollments are partitioned by it
+    @Column(length = 16, updatable = false)
+    private String term;
+
+    @ManyToMany(mappedBy = "courses")
+    @BatchSize(size = 50)
+    private Set<User> students = new HashSet<>();
 
+    // Courses a student must have taken in an earlier term; enrollment checks read them from CourseRequirementIndex
     @ManyToMany
-    @JoinTable(
-            name = "user_courses",
+    @JoinTable(name = "course_prerequisites",
             joinColumns = @JoinColumn(name = "course_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
-    )
-    private List<User> students = new ArrayList<>();
+            inverseJoinColumns = @JoinColumn(name = "prerequisite_id"))
+    @BatchSize(size = 50)
+    private Set<Course> prerequisites = new HashSet<>();
+
+    @ElementCollection
+    @CollectionTable(name = "course_meetings", joinColumns = @JoinColumn(name = "course_id"))
+    @BatchSize(size = 50)
+    private Set<MeetingTime> meetings = new HashSet<>();
+
+    // user_courses rows are owned by User.courses, so unlink them before the course row goes away
+    @PreRemove
+    private void removeEnrollments() {
+        for (User student : students) {
+            student.getCourses().remove(this);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.act.studentmanagmentsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * Final grade of one enrollment. Written by {@code GradeService} and read in student-id order by
+ * {@code GpaRecalculationService}, both through JDBC; the student index serves that range scan.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "enrollment_grades", indexes = {
+        @Index(name = "idx_enrollment_grades_student", columnList = "student_id"),
+        @Index(name = "idx_enrollment_grades_course", columnList = "course_id, term")
+})
+@IdClass(EnrollmentGradeId.class)
+public class EnrollmentGrade {
+    @Id
+    private Long studentId;
+
+    @Id
+    private Long courseId;
+
+    @Id
+    @Column(length = 16)
+    private String term;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private LetterGrade grade;
+
+    @Column(nullable = false)
+    private LocalDateTime gradedAt;
+
+    @Column
+    private String gradedBy;
+}
@@ -0,0 +1,35 @@
+package com.act.studentmanagmentsystem.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Getter
+@Setter
+public class EnrollmentGradeId implements Serializable {
+    private Long studentId;
+    private Long courseId;
+    private String term;
+
+    public EnrollmentGradeId() {}
+
+    public EnrollmentGradeId(Long studentId, Long courseId, String term) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.term = term;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EnrollmentGradeId that = (EnrollmentGradeId) o;
+        return Objects.equals(studentId, that.studentId) && Objects.equals(courseId, that.courseId) && Objects.equals(term, that.term);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, courseId, term);
+    }
+}
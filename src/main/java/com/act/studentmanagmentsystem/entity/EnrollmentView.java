@@ -0,0 +1,41 @@
+package com.act.studentmanagmentsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized enrollment row backing the course roster and student schedule views.
+ * Maintained by {@code EnrollmentProjection}; never edited directly by controllers.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "enrollment_views", indexes = {
+        @Index(name = "idx_enrollment_views_course", columnList = "course_id"),
+        @Index(name = "idx_enrollment_views_student_term", columnList = "student_id, term")
+})
+@IdClass(EnrollmentViewId.class)
+public class EnrollmentView {
+    @Id
+    private Long studentId;
+
+    @Id
+    private Long courseId;
+
+    private String studentFirstName;
+    private String studentLastName;
+    private String studentEmail;
+    @Enumerated(EnumType.STRING)
+    private UserStatus studentStatus;
+
+    private String courseName;
+    private String courseInstructor;
+    @Enumerated(EnumType.STRING)
+    private CourseStatus courseStatus;
+    @Column(length = 16)
+    private String term;
+
+    private LocalDateTime enrolledAt;
+}
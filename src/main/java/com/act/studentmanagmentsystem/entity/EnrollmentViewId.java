@@ -0,0 +1,33 @@
+package com.act.studentmanagmentsystem.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Getter
+@Setter
+public class EnrollmentViewId implements Serializable {
+    private Long studentId;
+    private Long courseId;
+
+    public EnrollmentViewId() {}
+
+    public EnrollmentViewId(Long studentId, Long courseId) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EnrollmentViewId that = (EnrollmentViewId) o;
+        return Objects.equals(studentId, that.studentId) && Objects.equals(courseId, that.courseId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, courseId);
+    }
+}
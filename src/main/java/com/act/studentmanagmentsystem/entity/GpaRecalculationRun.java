@@ -0,0 +1,61 @@
+package com.act.studentmanagmentsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a full GPA recalculation. {@code lastStudentId} is the keyset cursor committed with every chunk, so
+ * a run that failed or was cut short by a restart resumes after the last completed chunk.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "gpa_recalculation_runs")
+public class GpaRecalculationRun {
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Runs cover the students of one tenant
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column
+    private String requestedBy;
+
+    @Column(nullable = false)
+    private long lastStudentId;
+
+    @Column(nullable = false)
+    private long totalStudents;
+
+    @Column(nullable = false)
+    private long processedStudents;
+
+    @Column(nullable = false)
+    private long updatedStudents;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column
+    private LocalDateTime updatedAt;
+
+    @Column
+    private LocalDateTime finishedAt;
+
+    @Column(length = 1000)
+    private String error;
+}
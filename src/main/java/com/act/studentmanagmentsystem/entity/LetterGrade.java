@@ -0,0 +1,60 @@
+package com.act.studentmanagmentsystem.entity;
+
+import java.util.Locale;
+
+/**
+ * Final grade of an enrollment on the 4.0 scale. {@code W} (withdrawn) and {@code I} (incomplete) are recorded
+ * but carry no grade points and are left out of the GPA.
+ */
+public enum LetterGrade {
+    A("A", 4.0),
+    A_MINUS("A-", 3.7),
+    B_PLUS("B+", 3.3),
+    B("B", 3.0),
+    B_MINUS("B-", 2.7),
+    C_PLUS("C+", 2.3),
+    C("C", 2.0),
+    C_MINUS("C-", 1.7),
+    D_PLUS("D+", 1.3),
+    D("D", 1.0),
+    F("F", 0.0),
+    W("W", null),
+    I("I", null);
+
+    private final String label;
+    private final Double points;
+
+    LetterGrade(String label, Double points) {
+        this.label = label;
+        this.points = points;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Double getPoints() {
+        return points;
+    }
+
+    public boolean countsTowardGpa() {
+        return points != null;
+    }
+
+    /**
+     * Accepts both the label ({@code "B+"}) and the constant name ({@code "B_PLUS"}).
+     *
+     * @throws IllegalArgumentException for anything else
+     */
+    public static LetterGrade parse(String value) {
+        if (value != null) {
+            String normalized = value.trim().toUpperCase(Locale.ROOT);
+            for (LetterGrade grade : values()) {
+                if (grade.label.equals(normalized) || grade.name().equals(normalized)) {
+                    return grade;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Invalid grade: " + value);
+    }
+}
@@ -0,0 +1,90 @@
+package com.act.studentmanagmentsystem.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A weekly class meeting of a course, e.g. MONDAY 09:00-10:15. Meetings of the same term conflict when their
+ * time ranges overlap on the same day; a meeting that ends exactly when another starts does not conflict.
+ */
+@Getter
+@Setter
+@Embeddable
+public class MeetingTime {
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false, length = 9)
+    private DayOfWeek day;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime start;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime end;
+
+    public MeetingTime() {}
+
+    public MeetingTime(DayOfWeek day, LocalTime start, LocalTime end) {
+        this.day = day;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Parses a meeting from request values such as {@code "monday"}, {@code "09:00"} and {@code "10:15"}.
+     *
+     * @throws IllegalArgumentException if a value is missing or malformed, or the meeting does not end after it starts
+     */
+    public static MeetingTime of(String day, String start, String end) {
+        if (day == null || start == null || end == null) {
+            throw new IllegalArgumentException("Meeting times need a day, start and end");
+        }
+        try {
+            MeetingTime meeting = new MeetingTime(DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)),
+                    LocalTime.parse(start.trim()), LocalTime.parse(end.trim()));
+            if (!meeting.end.isAfter(meeting.start)) {
+                throw new IllegalArgumentException("Meeting must end after it starts: " + meeting);
+            }
+            return meeting;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid meeting time: " + day + " " + start + "-" + end);
+        }
+    }
+
+    /** Minutes since Monday 00:00 at which the meeting starts. */
+    public int startMinuteOfWeek() {
+        return (day.getValue() - 1) * 1440 + start.getHour() * 60 + start.getMinute();
+    }
+
+    /** Minutes since Monday 00:00 at which the meeting ends. */
+    public int endMinuteOfWeek() {
+        return (day.getValue() - 1) * 1440 + end.getHour() * 60 + end.getMinute();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MeetingTime that = (MeetingTime) o;
+        return day == that.day && Objects.equals(start, that.start) && Objects.equals(end, that.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, start, end);
+    }
+
+    @Override
+    public String toString() {
+        return day + " " + start + "-" + end;
+    }
+}
@@ -0,0 +1,80 @@
+package com.act.studentmanagmentsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.LocalDateTime;
+
+/**
+ * A campus-wide report generated in the background. {@code processedItems} counts courses for rosters and
+ * students for transcripts and timetables; {@code fileName} is relative to {@code app.reports.directory} and set
+ * once the file is complete.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "report_jobs", indexes = {
+        @Index(name = "idx_report_jobs_tenant_created_at", columnList = "tenant_id, created_at"),
+        @Index(name = "idx_report_jobs_status_updated_at", columnList = "status, updated_at")
+})
+public class ReportJob {
+    public enum Type { ROSTERS, TRANSCRIPTS, TIMETABLES }
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Type type;
+
+    // Optional academic term the report is limited to
+    @Column(length = 16)
+    private String term;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column
+    private String requestedBy;
+
+    @Column(nullable = false)
+    private long totalItems;
+
+    @Column(nullable = false)
+    private long processedItems;
+
+    @Column(nullable = false)
+    private long rowCount;
+
+    @Column
+    private String fileName;
+
+    @Column
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime startedAt;
+
+    @Column
+    private LocalDateTime updatedAt;
+
+    @Column
+    private LocalDateTime finishedAt;
+
+    @Column(length = 1000)
+    private String error;
+}
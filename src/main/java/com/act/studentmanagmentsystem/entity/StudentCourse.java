@@ -21,5 +21,10 @@ public class StudentCourse {
     @JoinColumn(name = "course_id")
     private Course course;
 
+    // Copy of course.term, the partition key of student_courses
+    @Id
+    @Column(length = 16)
+    private String term;
+
     private LocalDateTime enrolledAt;
 }
\ No newline at end of file
@@ -10,14 +10,16 @@ import java.util.Objects;
 public class StudentCourseId implements Serializable {
     private Long student; // Matches the field name in StudentCourse.student
     private Long course;  // Matches the field name in StudentCourse.course
+    private String term;
 
     // Default constructor
     public StudentCourseId() {}
 
     // Constructor
-    public StudentCourseId(Long student, Long course) {
+    public StudentCourseId(Long student, Long course, String term) {
         this.student = student;
         this.course = course;
+        this.term = term;
     }
 
     // Equals and hashCode
@@ -26,11 +28,11 @@ public class StudentCourseId implements Serializable {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         StudentCourseId that = (StudentCourseId) o;
-        return Objects.equals(student, that.student) && Objects.equals(course, that.course);
+        return Objects.equals(student, that.student) && Objects.equals(course, that.course) && Objects.equals(term, that.term);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(student, course);
+        return Objects.hash(student, course, term);
     }
 }
\ No newline at end of file
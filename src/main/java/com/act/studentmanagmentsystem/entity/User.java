@@ -3,26 +3,41 @@ package com.act.studentmanagmentsystem.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLInsert;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_tenant_email", columnNames = {"tenant_id", "email"})
+}, indexes = {
+        @Index(name = "idx_users_tenant_role", columnList = "tenant_id, role")
+})
+@NamedEntityGraph(name = "User.courses", attributeNodes = @NamedAttributeNode("courses"))
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Campus the user belongs to; set by Hibernate on insert and added to every entity query
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
     @Column(nullable = false)
     private String firstName;
 
     @Column(nullable = false)
     private String lastName;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -34,22 +49,33 @@ public class User {
 
     private boolean mustChangePassword = false;
 
+    // SHA-256 of the single-use token in the password setup link of an admin-created account
+    @Column(length = 64, unique = true)
+    private String passwordSetupTokenHash;
+
+    private LocalDateTime passwordSetupExpiresAt;
+
     @Column
     private String phone;
 
     @Column
     private Double gpa;
 
+    @Enumerated(EnumType.STRING)
     @Column
-    private String status = "ACTIVE"; // ACTIVE, INACTIVE, GRADUATED
+    private UserStatus status = UserStatus.ACTIVE;
 
     private LocalDateTime createdAt;
 
+    // Owning side of the enrollment link; Course.students is the inverse. user_courses is partitioned by term,
+    // so new rows copy the term of their course.
     @ManyToMany
     @JoinTable(
             name = "user_courses",
             joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name = "course_id")
     )
-    private List<Course> courses = new ArrayList<>();
+    @BatchSize(size = 50)
+    @SQLInsert(sql = "INSERT INTO user_courses (user_id, course_id, term) SELECT ?, c.id, c.term FROM courses c WHERE c.id = ?")
+    private Set<Course> courses = new HashSet<>();
 }
\ No newline at end of file
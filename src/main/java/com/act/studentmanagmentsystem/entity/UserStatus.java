@@ -0,0 +1,5 @@
+package com.act.studentmanagmentsystem.entity;
+
+public enum UserStatus {
+    ACTIVE, INACTIVE, GRADUATED
+}
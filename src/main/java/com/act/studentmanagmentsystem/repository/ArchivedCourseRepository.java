@@ -0,0 +1,17 @@
+package com.act.studentmanagmentsystem.repository;
+
+import com.act.studentmanagmentsystem.entity.ArchivedCourse;
+import com.act.studentmanagmentsystem.service.TenantContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ArchivedCourseRepository extends JpaRepository<ArchivedCourse, Long> {
+    Page<ArchivedCourse> findByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    default Optional<ArchivedCourse> findByIdInCurrentTenant(Long id) {
+        return findById(id).filter(course -> TenantContext.current().equals(course.getTenantId()));
+    }
+}
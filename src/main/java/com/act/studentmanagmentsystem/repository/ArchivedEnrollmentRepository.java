@@ -0,0 +1,19 @@
+package com.act.studentmanagmentsystem.repository;
+
+import com.act.studentmanagmentsystem.entity.ArchivedEnrollment;
+import com.act.studentmanagmentsystem.entity.ArchivedEnrollmentId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ArchivedEnrollmentRepository extends JpaRepository<ArchivedEnrollment, ArchivedEnrollmentId> {
+    List<ArchivedEnrollment> findByStudentIdOrderByCourseNameAsc(Long studentId);
+
+    List<ArchivedEnrollment> findByCourseIdOrderByStudentIdAsc(Long courseId);
+
+    // Courses of terms whose partitions were detached still count as taken for prerequisites
+    @Query("SELECT e.courseId FROM ArchivedEnrollment e WHERE e.studentId = :studentId")
+    List<Long> findCourseIdsByStudentId(@Param("studentId") Long studentId);
+}
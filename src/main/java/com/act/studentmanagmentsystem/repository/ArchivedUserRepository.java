@@ -0,0 +1,17 @@
+package com.act.studentmanagmentsystem.repository;
+
+import com.act.studentmanagmentsystem.entity.ArchivedUser;
+import com.act.studentmanagmentsystem.service.TenantContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ArchivedUserRepository extends JpaRepository<ArchivedUser, Long> {
+    Page<ArchivedUser> findByEmailContainingIgnoreCase(String email, Pageable pageable);
+
+    default Optional<ArchivedUser> findByIdInCurrentTenant(Long id) {
+        return findById(id).filter(user -> TenantContext.current().equals(user.getTenantId()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.act.studentmanagmentsystem.repository;
+
+import com.act.studentmanagmentsystem.entity.AuditEvent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
+    Page<AuditEvent> findAll(Specification<AuditEvent> spec, Pageable pageable);
+}
@@ -1,9 +1,37 @@
 package com.act.studentmanagmentsystem.repository;
 
 import com.act.studentmanagmentsystem.entity.Course;
+import com.act.studentmanagmentsystem.entity.CourseStatus;
+import com.act.studentmanagmentsystem.service.TenantContext;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
-    long countByStatus(String active);
+    Optional<Course> findByIdAndStatus(Long id, CourseStatus status);
+
+    // Loads by primary key bypass the @TenantId restriction that Hibernate adds to queries
+    default Optional<Course> findByIdInCurrentTenant(Long id) {
+        return findById(id).filter(course -> TenantContext.current().equals(course.getTenantId()));
+    }
+
+    // user_courses is list-partitioned by term; passing the course term confines these to one partition
+    @Query(value = "SELECT COUNT(*) FROM user_courses WHERE course_id = :courseId AND term = :term", nativeQuery = true)
+    long countEnrollments(@Param("courseId") Long courseId, @Param("term") String term);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM user_courses WHERE course_id = :courseId AND user_id = :studentId AND term = :term)",
+            nativeQuery = true)
+    boolean isEnrolled(@Param("courseId") Long courseId, @Param("studentId") Long studentId, @Param("term") String term);
+
+    @EntityGraph("Course.students")
+    List<Course> findAllWithStudentsByStatus(CourseStatus status);
+
+    long countByStatus(CourseStatus status);
+
+    long countByTerm(String term);
 }
\ No newline at end of file
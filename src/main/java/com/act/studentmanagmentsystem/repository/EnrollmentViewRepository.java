@@ -0,0 +1,38 @@
+package com.act.studentmanagmentsystem.repository;
+
+import com.act.studentmanagmentsystem.entity.CourseStatus;
+import com.act.studentmanagmentsystem.entity.EnrollmentView;
+import com.act.studentmanagmentsystem.entity.EnrollmentViewId;
+import com.act.studentmanagmentsystem.entity.UserStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface EnrollmentViewRepository extends JpaRepository<EnrollmentView, EnrollmentViewId> {
+    List<EnrollmentView> findByCourseIdOrderByStudentLastNameAscStudentFirstNameAsc(Long courseId);
+
+    List<EnrollmentView> findByStudentIdOrderByCourseNameAsc(Long studentId);
+
+    List<EnrollmentView> findByStudentIdAndTermOrderByCourseNameAsc(Long studentId, String term);
+
+    @Transactional
+    @Modifying
+    @Query("update EnrollmentView v set v.courseName = :name, v.courseInstructor = :instructor, v.courseStatus = :status where v.courseId = :courseId")
+    int updateCourse(@Param("courseId") Long courseId, @Param("name") String name,
+                     @Param("instructor") String instructor, @Param("status") CourseStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("update EnrollmentView v set v.studentFirstName = :firstName, v.studentLastName = :lastName, v.studentEmail = :email, v.studentStatus = :status where v.studentId = :studentId")
+    int updateStudent(@Param("studentId") Long studentId, @Param("firstName") String firstName,
+                      @Param("lastName") String lastName, @Param("email") String email, @Param("status") UserStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("delete from EnrollmentView v where v.courseId = :courseId")
+    int deleteByCourseId(@Param("courseId") Long courseId);
+}
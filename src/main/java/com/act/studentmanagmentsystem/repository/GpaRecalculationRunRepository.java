@@ -0,0 +1,10 @@
+package com.act.studentmanagmentsystem.repository;
+
+import com.act.studentmanagmentsystem.entity.GpaRecalculationRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface GpaRecalculationRunRepository extends JpaRepository<GpaRecalculationRun, Long> {
+    Optional<GpaRecalculationRun> findFirstByOrderByIdDesc();
+}
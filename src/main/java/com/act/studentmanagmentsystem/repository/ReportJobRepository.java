@@ -0,0 +1,17 @@
+package com.act.studentmanagmentsystem.repository;
+
+import com.act.studentmanagmentsystem.entity.ReportJob;
+import com.act.studentmanagmentsystem.service.TenantContext;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+    List<ReportJob> findTop50ByOrderByIdDesc();
+
+    // Loads by primary key bypass the @TenantId restriction that Hibernate adds to queries
+    default Optional<ReportJob> findByIdInCurrentTenant(Long id) {
+        return findById(id).filter(job -> TenantContext.current().equals(job.getTenantId()));
+    }
+}
@@ -3,9 +3,15 @@ package com.act.studentmanagmentsystem.repository;
 import com.act.studentmanagmentsystem.entity.StudentCourse;
 import com.act.studentmanagmentsystem.entity.StudentCourseId;
 import com.act.studentmanagmentsystem.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 
 public interface StudentCourseRepository extends JpaRepository<StudentCourse, StudentCourseId> {
+    @EntityGraph(attributePaths = "course")
     List<StudentCourse> findByStudent(User student);
+
+    // The term predicate lets Postgres prune student_courses down to a single partition
+    @EntityGraph(attributePaths = "course")
+    List<StudentCourse> findByStudentAndTerm(User student, String term);
 }
\ No newline at end of file
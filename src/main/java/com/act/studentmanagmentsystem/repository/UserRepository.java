@@ -2,16 +2,30 @@ package com.act.studentmanagmentsystem.repository;
 
 import com.act.studentmanagmentsystem.entity.Role;
 import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.service.TenantContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     User findByEmail(String email);
 
+    // Loads by primary key bypass the @TenantId restriction that Hibernate adds to queries
+    default Optional<User> findByIdInCurrentTenant(Long id) {
+        return findById(id).filter(user -> TenantContext.current().equals(user.getTenantId()));
+    }
+
+    @EntityGraph("User.courses")
+    User findWithCoursesByEmail(String email);
+
+    @EntityGraph("User.courses")
+    Optional<User> findWithCoursesById(Long id);
+
     List<User> findByRole(Role role);
 
     long countByRole(Role role);
@@ -0,0 +1,175 @@
+package com.act.studentmanagmentsystem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves inactive courses and graduated students, together with their enrollments, out of the hot tables into
+ * {@code archived_courses}, {@code archived_users} and {@code archived_enrollments}. Each chunk of ids is copied
+ * and deleted in one transaction with set-based SQL, so a failed run leaves every row in exactly one place and
+ * the next run picks up where it stopped.
+ */
+@Service
+public class ArchivalService {
+    private static final Logger logger = LoggerFactory.getLogger(ArchivalService.class);
+
+    // A course another course still lists as a prerequisite stays, so the requirement is never lost. An inactive
+    // course requiring it is archived first, which frees it for a later chunk of the same run.
+    private static final String SELECT_ARCHIVABLE_COURSES_SQL = """
+            SELECT c.id FROM courses c
+            WHERE c.status = 'INACTIVE'
+              AND NOT EXISTS (SELECT 1 FROM course_prerequisites p WHERE p.prerequisite_id = c.id)
+            ORDER BY c.id LIMIT :limit
+            """;
+
+    private static final String COUNT_REQUIRED_INACTIVE_COURSES_SQL = """
+            SELECT COUNT(*) FROM courses c
+            WHERE c.status = 'INACTIVE'
+              AND EXISTS (SELECT 1 FROM course_prerequisites p WHERE p.prerequisite_id = c.id)
+            """;
+
+    private static final String ARCHIVE_COURSE_ENROLLMENTS_SQL = """
+            INSERT INTO archived_enrollments (student_id, course_id, course_name, course_instructor, term, enrolled_at, grade, archived_at)
+            SELECT uc.user_id, c.id, c.name, c.instructor, uc.term, sc.enrolled_at, g.grade, now()
+            FROM user_courses uc
+            JOIN courses c ON c.id = uc.course_id
+            LEFT JOIN student_courses sc ON sc.student_id = uc.user_id AND sc.course_id = uc.course_id AND sc.term = uc.term
+            LEFT JOIN enrollment_grades g ON g.student_id = uc.user_id AND g.course_id = uc.course_id AND g.term = uc.term
+            WHERE uc.course_id IN (:ids)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String ARCHIVE_STUDENT_ENROLLMENTS_SQL = """
+            INSERT INTO archived_enrollments (student_id, course_id, course_name, course_instructor, term, enrolled_at, grade, archived_at)
+            SELECT uc.user_id, c.id, c.name, c.instructor, uc.term, sc.enrolled_at, g.grade, now()
+            FROM user_courses uc
+            JOIN courses c ON c.id = uc.course_id
+            LEFT JOIN student_courses sc ON sc.student_id = uc.user_id AND sc.course_id = uc.course_id AND sc.term = uc.term
+            LEFT JOIN enrollment_grades g ON g.student_id = uc.user_id AND g.course_id = uc.course_id AND g.term = uc.term
+            WHERE uc.user_id IN (:ids)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String ARCHIVE_COURSES_SQL = """
+            INSERT INTO archived_courses (id, tenant_id, name, description, instructor, max_enrollment, status, term, archived_at)
+            SELECT id, tenant_id, name, description, instructor, max_enrollment, status, term, now()
+            FROM courses WHERE id IN (:ids)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String ARCHIVE_USERS_SQL = """
+            INSERT INTO archived_users (id, tenant_id, first_name, last_name, email, role, phone, gpa, status, created_at, archived_at)
+            SELECT id, tenant_id, first_name, last_name, email, role, phone, gpa, status, created_at, now()
+            FROM users WHERE id IN (:ids)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DashboardStats dashboardStats;
+    private final InvalidationBus invalidationBus;
+    private final AuditLogService auditLogService;
+    private final int chunkSize;
+    private final ReentrantLock running = new ReentrantLock();
+
+    public ArchivalService(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           DashboardStats dashboardStats, InvalidationBus invalidationBus, AuditLogService auditLogService,
+                           @Value("${archive.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dashboardStats = dashboardStats;
+        this.invalidationBus = invalidationBus;
+        this.auditLogService = auditLogService;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${archive.cron:0 30 3 * * *}")
+    public void runScheduled() {
+        run("scheduler");
+    }
+
+    /**
+     * Archives everything that is currently eligible. Returns the number of courses and students moved, or
+     * {@code null} if another run is still in progress.
+     */
+    public Map<String, Integer> run(String actor) {
+        if (!running.tryLock()) {
+            logger.info("Archival run requested by {} skipped, another run is in progress", actor);
+            return null;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            int courses = archiveInChunks(SELECT_ARCHIVABLE_COURSES_SQL,
+                    ARCHIVE_COURSE_ENROLLMENTS_SQL, ARCHIVE_COURSES_SQL, "course_id", "course_id",
+                    List.of("DELETE FROM enrollment_grades WHERE course_id IN (:ids)",
+                            "DELETE FROM course_meetings WHERE course_id IN (:ids)",
+                            "DELETE FROM course_prerequisites WHERE course_id IN (:ids)"),
+                    "DELETE FROM courses WHERE id IN (:ids)");
+            int students = archiveInChunks(
+                    "SELECT id FROM users WHERE role = 'STUDENT' AND status = 'GRADUATED' ORDER BY id LIMIT :limit",
+                    ARCHIVE_STUDENT_ENROLLMENTS_SQL, ARCHIVE_USERS_SQL, "student_id", "user_id",
+                    List.of("DELETE FROM enrollment_grades WHERE student_id IN (:ids)"), "DELETE FROM users WHERE id IN (:ids)");
+
+            Integer heldBack = jdbcTemplate.queryForObject(COUNT_REQUIRED_INACTIVE_COURSES_SQL, Map.of(), Integer.class);
+            if (heldBack != null && heldBack > 0) {
+                logger.info("{} inactive courses were not archived because other courses still require them", heldBack);
+            }
+
+            if (courses > 0 || students > 0) {
+                dashboardStats.reload();
+                invalidationBus.publish(EntityChange.COURSE, null, "ARCHIVED");
+                invalidationBus.publish(EntityChange.USER, null, "ARCHIVED");
+                auditLogService.record(actor, "ARCHIVED", "ARCHIVE", null, "courses=" + courses + ", students=" + students);
+            }
+            logger.info("Archival run by {} moved {} courses and {} students in {}ms",
+                    actor, courses, students, System.currentTimeMillis() - started);
+
+            Map<String, Integer> result = new LinkedHashMap<>();
+            result.put("courses", courses);
+            result.put("students", students);
+            return result;
+        } finally {
+            running.unlock();
+        }
+    }
+
+    // enrollment_views and student_courses name the student column student_id, user_courses names it user_id
+    private int archiveInChunks(String selectIds, String archiveEnrollments, String archiveRows, String enrollmentColumn,
+                                String linkColumn, List<String> deleteDependents, String deleteRows) {
+        int total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = jdbcTemplate.queryForList(selectIds, Map.of("limit", chunkSize), Long.class);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+                jdbcTemplate.update(archiveEnrollments, params);
+                jdbcTemplate.update(archiveRows, params);
+                jdbcTemplate.update("DELETE FROM enrollment_views WHERE " + enrollmentColumn + " IN (:ids)", params);
+                jdbcTemplate.update("DELETE FROM student_courses WHERE " + enrollmentColumn + " IN (:ids)", params);
+                jdbcTemplate.update("DELETE FROM user_courses WHERE " + linkColumn + " IN (:ids)", params);
+                for (String deleteDependent : deleteDependents) {
+                    jdbcTemplate.update(deleteDependent, params);
+                }
+                return jdbcTemplate.update(deleteRows, params);
+            });
+            if (moved == null || moved == 0) {
+                return total;
+            }
+            total += moved;
+        }
+    }
+}
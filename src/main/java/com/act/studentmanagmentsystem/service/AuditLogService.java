@@ -0,0 +1,99 @@
+package com.act.studentmanagmentsystem.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only audit journal. Request threads only enqueue into a bounded in-memory buffer;
+ * a scheduled flusher drains it and writes the events in JDBC batches.
+ * <p>
+ * Loss is bounded: at most {@code audit.buffer-capacity} events can be lost on a crash, and events
+ * offered while the buffer is full are dropped and counted instead of blocking the caller.
+ */
+@Service
+public class AuditLogService {
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_events (tenant_id, occurred_at, actor, action, entity_type, entity_id, details) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PendingEvent> buffer;
+    private final int batchSize;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+
+    public AuditLogService(JdbcTemplate jdbcTemplate,
+                           @Value("${audit.buffer-capacity:8192}") int bufferCapacity,
+                           @Value("${audit.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+    }
+
+    public void record(String actor, String action, String entityType, Long entityId, String details) {
+        PendingEvent event = new PendingEvent(TenantContext.current(), LocalDateTime.now(), actor, action, entityType, entityId, details);
+        if (!buffer.offer(event)) {
+            long total = dropped.incrementAndGet();
+            logger.warn("Audit buffer full, dropped {} event for {} {} (total dropped: {})", action, entityType, entityId, total);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${audit.flush-interval-ms:500}")
+    public void flush() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                    ps.setString(1, event.tenant());
+                    ps.setTimestamp(2, Timestamp.valueOf(event.occurredAt()));
+                    ps.setString(3, event.actor());
+                    ps.setString(4, event.action());
+                    ps.setString(5, event.entityType());
+                    ps.setObject(6, event.entityId());
+                    ps.setString(7, event.details());
+                });
+                written.addAndGet(batch.size());
+            } catch (Exception e) {
+                dropped.addAndGet(batch.size());
+                logger.error("Failed to write {} audit events", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        logger.info("Flushing {} pending audit events before shutdown", buffer.size());
+        flush();
+    }
+
+    public long getPendingCount() {
+        return buffer.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    private record PendingEvent(String tenant, LocalDateTime occurredAt, String actor, String action, String entityType,
+                                Long entityId, String details) {
+    }
+}
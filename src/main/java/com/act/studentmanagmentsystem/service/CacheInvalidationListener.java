@@ -0,0 +1,87 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.config.CacheConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies {@link EntityChange}s from the {@link InvalidationBus} to this node's in-process state: a course change
+ * evicts the catalog of its tenant (of every tenant when it spans them), a course created or updated on another
+ * node is refreshed in the {@link CourseRequirementIndex} (the editing node refreshed it already), bulk course
+ * changes reload the index on every node, and changes from other nodes are applied to
+ * the dashboard counters one by one. Only bulk changes without an entity, such as archival runs, reload the
+ * counters, at most once per refresh interval.
+ */
+@Component
+public class CacheInvalidationListener {
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final CacheManager cacheManager;
+    private final DashboardStats dashboardStats;
+    private final CourseRequirementIndex requirementIndex;
+    private final InvalidationBus invalidationBus;
+    private final AtomicBoolean statsStale = new AtomicBoolean();
+
+    public CacheInvalidationListener(CacheManager cacheManager, DashboardStats dashboardStats,
+                                     CourseRequirementIndex requirementIndex, InvalidationBus invalidationBus) {
+        this.cacheManager = cacheManager;
+        this.dashboardStats = dashboardStats;
+        this.requirementIndex = requirementIndex;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(this::onChange);
+    }
+
+    private void onChange(EntityChange change) {
+        logger.debug("Applying invalidation {}", change);
+        if (EntityChange.COURSE.equals(change.entityType())) {
+            // Refresh before evicting so that the catalog is rebuilt from the new prerequisites and meetings
+            if (change.entityId() == null) {
+                requirementIndex.reload();
+            } else if (("CREATED".equals(change.action()) || "UPDATED".equals(change.action()))
+                    && !invalidationBus.nodeId().equals(change.origin())) {
+                requirementIndex.refreshCourse(change.entityId());
+            }
+            Cache courses = cacheManager.getCache(CacheConfig.COURSES_CACHE);
+            if (courses != null) {
+                if (change.tenant() != null) {
+                    courses.evict(change.tenant());
+                } else {
+                    courses.clear();
+                }
+            }
+        }
+        // The publishing node already updated its own counters
+        if (!invalidationBus.nodeId().equals(change.origin())) {
+            applyToStats(change);
+        }
+    }
+
+    private void applyToStats(EntityChange change) {
+        if ("GRADED".equals(change.action()) && change.tenant() != null && change.delta() != null) {
+            dashboardStats.applyGpaChanged(change.tenant(), change.delta());
+        } else if (change.entityId() == null) {
+            statsStale.set(true);
+        } else if (EntityChange.COURSE.equals(change.entityType())) {
+            if ("ENROLLED".equals(change.action())) {
+                dashboardStats.onEnrolled(change.entityId());
+            } else {
+                dashboardStats.refreshCourse(change.entityId());
+            }
+        } else if ("CREATED".equals(change.action()) && change.tenant() != null && change.delta() != null) {
+            dashboardStats.applyUserCreated(change.tenant(), change.delta());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation.stats-refresh-interval-ms:2000}")
+    public void refreshStatsIfStale() {
+        if (statsStale.getAndSet(false)) {
+            dashboardStats.reload();
+        }
+    }
+}
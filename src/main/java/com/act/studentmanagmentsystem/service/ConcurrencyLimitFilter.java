@@ -0,0 +1,96 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sheds load per endpoint group with {@link ConcurrencyLimiter}: login and registration, the course catalog,
+ * admin searches and enrollment each have their own limit, so a slow admin search cannot take the threads and
+ * connections that logins need. Rejected requests get an immediate {@code 503} with {@code Retry-After}.
+ * Endpoints outside these groups (e.g. the seat stream and exports, which hold their connection on purpose) are
+ * not limited.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final ConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiter limiter, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !limiter.isEnabled() || classify(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ConcurrencyLimiter.Group group = classify(request);
+        ConcurrencyLimiter.Limit limit = limiter.tryAcquire(group);
+        if (limit == null) {
+            logger.debug("Rejected {} {}: {} concurrency limit reached", request.getMethod(), request.getRequestURI(), group.key());
+            writeOverloaded(response, group);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            limit.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    static ConcurrencyLimiter.Group classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if (path.startsWith("/api/auth/")) {
+            return ConcurrencyLimiter.Group.AUTH;
+        }
+        if ("POST".equals(method) && path.equals("/api/course/enroll")) {
+            return ConcurrencyLimiter.Group.ENROLLMENT;
+        }
+        if (!"GET".equals(method)) {
+            return null;
+        }
+        if (path.equals("/api/course") || (path.startsWith("/api/course/") && path.endsWith("/roster"))) {
+            return ConcurrencyLimiter.Group.CATALOG;
+        }
+        if ((path.startsWith("/api/user/students") && !path.equals("/api/user/students/export"))
+                || (path.startsWith("/api/admin/") && !path.endsWith("/download"))) {
+            return ConcurrencyLimiter.Group.ADMIN_SEARCH;
+        }
+        return null;
+    }
+
+    private void writeOverloaded(HttpServletResponse response, ConcurrencyLimiter.Group group) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("status", status.value());
+        error.put("error", status.getReasonPhrase());
+        error.put("message", "Too many concurrent " + group.key() + " requests, retry shortly");
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
@@ -0,0 +1,152 @@
+package com.act.studentmanagmentsystem.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Adaptive (AIMD) concurrency limits per endpoint group. Each group admits at most {@code limit} concurrent
+ * requests; a request that finds the group full is rejected instead of queuing for a Tomcat thread and a pooled
+ * connection. The limit grows by one while responses are fast and the group is busy, and shrinks by
+ * {@code app.concurrency.backoff-ratio} whenever a response is slower than the group's target latency or fails
+ * with a server error, so a slow database quickly reduces the load sent to it.
+ * <p>
+ * Per-group settings are {@code app.concurrency.<group>.max-limit}, {@code .min-limit} and
+ * {@code .target-latency-ms}. Limits and in-flight counts are exported as {@code concurrency.limit} and
+ * {@code concurrency.in-flight}, decisions as {@code concurrency.requests} tagged {@code accepted} or
+ * {@code rejected}.
+ */
+@Service
+public class ConcurrencyLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+    public enum Group {
+        AUTH("auth", 40, 1000),
+        CATALOG("catalog", 100, 500),
+        ADMIN_SEARCH("admin-search", 10, 2000),
+        ENROLLMENT("enrollment", 40, 1000);
+
+        private final String key;
+        private final int defaultMaxLimit;
+        private final long defaultTargetLatencyMs;
+
+        Group(String key, int defaultMaxLimit, long defaultTargetLatencyMs) {
+            this.key = key;
+            this.defaultMaxLimit = defaultMaxLimit;
+            this.defaultTargetLatencyMs = defaultTargetLatencyMs;
+        }
+
+        public String key() {
+            return key;
+        }
+    }
+
+    private final boolean enabled;
+    private final Map<Group, Limit> limits = new EnumMap<>(Group.class);
+
+    public ConcurrencyLimiter(Environment environment, MeterRegistry meterRegistry,
+                              @Value("${app.concurrency.enabled:true}") boolean enabled,
+                              @Value("${app.concurrency.backoff-ratio:0.9}") double backoffRatio) {
+        this.enabled = enabled;
+        for (Group group : Group.values()) {
+            String prefix = "app.concurrency." + group.key() + ".";
+            int maxLimit = environment.getProperty(prefix + "max-limit", Integer.class, group.defaultMaxLimit);
+            int minLimit = environment.getProperty(prefix + "min-limit", Integer.class, 2);
+            long targetMs = environment.getProperty(prefix + "target-latency-ms", Long.class, group.defaultTargetLatencyMs);
+            Limit limit = new Limit(group, minLimit, maxLimit, targetMs * 1_000_000, backoffRatio, meterRegistry);
+            limits.put(group, limit);
+            Gauge.builder("concurrency.limit", limit, Limit::getLimit).tag("group", group.key()).register(meterRegistry);
+            Gauge.builder("concurrency.in-flight", limit, Limit::getInFlight).tag("group", group.key()).register(meterRegistry);
+        }
+    }
+
+    /**
+     * Returns the limit of {@code group} if the request was admitted, or {@code null} if it must be rejected.
+     * An admitted request must be finished with {@link Limit#release}.
+     */
+    public Limit tryAcquire(Group group) {
+        Limit limit = limits.get(group);
+        return limit.tryAcquire() ? limit : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Limit getLimit(Group group) {
+        return limits.get(group);
+    }
+
+    public static final class Limit {
+        private final Group group;
+        private final int minLimit;
+        private final int maxLimit;
+        private final long targetLatencyNanos;
+        private final double backoffRatio;
+        private final Counter accepted;
+        private final Counter rejected;
+
+        private double limit;
+        private int inFlight;
+
+        Limit(Group group, int minLimit, int maxLimit, long targetLatencyNanos, double backoffRatio, MeterRegistry meterRegistry) {
+            this.group = group;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.targetLatencyNanos = targetLatencyNanos;
+            this.backoffRatio = backoffRatio;
+            this.limit = maxLimit;
+            this.accepted = meterRegistry.counter("concurrency.requests", "group", group.key(), "outcome", "accepted");
+            this.rejected = meterRegistry.counter("concurrency.requests", "group", group.key(), "outcome", "rejected");
+        }
+
+        private boolean tryAcquire() {
+            synchronized (this) {
+                if (inFlight < (int) limit) {
+                    inFlight++;
+                    accepted.increment();
+                    return true;
+                }
+            }
+            rejected.increment();
+            return false;
+        }
+
+        /**
+         * Ends an admitted request. {@code failed} marks responses that indicate overload (server errors) even if
+         * they were fast.
+         */
+        public void release(long latencyNanos, boolean failed) {
+            synchronized (this) {
+                inFlight--;
+                if (failed || latencyNanos > targetLatencyNanos) {
+                    double reduced = Math.max(minLimit, limit * backoffRatio);
+                    if ((int) reduced < (int) limit) {
+                        logger.debug("Concurrency limit of {} lowered to {} ({} ms, failed={})",
+                                group.key(), (int) reduced, latencyNanos / 1_000_000, failed);
+                    }
+                    limit = reduced;
+                } else if (inFlight * 2 >= (int) limit) {
+                    // Only grow while the current limit is actually being used
+                    limit = Math.min(maxLimit, limit + 1);
+                }
+            }
+        }
+
+        public synchronized int getLimit() {
+            return (int) limit;
+        }
+
+        public synchronized int getInFlight() {
+            return inFlight;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.config.CacheConfig;
+import com.act.studentmanagmentsystem.dto.CourseResponse;
+import com.act.studentmanagmentsystem.entity.CourseStatus;
+import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.repository.CourseRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class CourseCatalogService {
+    private final CourseRepository courseRepository;
+    private final CourseRequirementIndex requirementIndex;
+
+    public CourseCatalogService(CourseRepository courseRepository, CourseRequirementIndex requirementIndex) {
+        this.courseRepository = courseRepository;
+        this.requirementIndex = requirementIndex;
+    }
+
+    /**
+     * Active course catalog of {@code tenant} as returned by {@code GET /api/course}. Cached per node under the
+     * tenant and evicted through the {@link InvalidationBus} whenever any node changes a course or an enrollment.
+     * {@code tenant} must be the current {@link TenantContext} tenant; it is a parameter to key the cache.
+     */
+    @Cacheable(CacheConfig.COURSES_CACHE)
+    @Transactional(readOnly = true)
+    public List<CourseResponse> getCourses(String tenant) {
+        return courseRepository.findAllWithStudentsByStatus(CourseStatus.ACTIVE).stream()
+                .map(course -> new CourseResponse(
+                        course.getId(),
+                        course.getName(),
+                        course.getDescription(),
+                        course.getInstructor(),
+                        course.getMaxEnrollment(),
+                        course.getStatus(),
+                        course.getTerm(),
+                        course.getStudents().size(),
+                        course.getStudents().stream().map(User::getId).collect(Collectors.toList()),
+                        requirementIndex.getPrerequisiteIds(course.getId()),
+                        requirementIndex.getMeetings(course.getId())
+                ))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,399 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.AcademicTerm;
+import com.act.studentmanagmentsystem.entity.MeetingTime;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory copy of every course's term, prerequisites and meeting times, so that enrollment can be checked
+ * against prerequisites and the student's timetable without extra queries.
+ * <p>
+ * The index is an immutable snapshot of arrays addressed by the position of a course id in a sorted
+ * {@code long[]}: prerequisites are adjacency arrays of positions, meetings are flattened
+ * {@code [start, end, start, end, ...]} minute-of-week pairs. A reload builds a new snapshot and swaps it in, so
+ * readers never lock. An edited course is applied on its own with {@link #refreshCourse}, on the node that made
+ * the edit and on the others when the change arrives over the bus; bulk changes such as archival reload the whole
+ * index.
+ * <p>
+ * Prerequisites name a course row, and a course row belongs to one term. A student is only credited for taking
+ * that very row, not another term's offering of the same subject, and a failing grade still counts as taken.
+ */
+@Service
+public class CourseRequirementIndex {
+    private static final Logger logger = LoggerFactory.getLogger(CourseRequirementIndex.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Snapshot snapshot = new Snapshot(new long[0], new String[0], new int[0], new int[0][], new int[0][]);
+
+    // EntityManagerFactory is only injected so that Hibernate has created the tables before the first load
+    public CourseRequirementIndex(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Synchronized with refreshCourse so that a full reload cannot overwrite a course refreshed while it was reading
+    @PostConstruct
+    public synchronized void reload() {
+        long started = System.nanoTime();
+        List<Object[]> courses = jdbcTemplate.query("SELECT id, name, term FROM courses ORDER BY id",
+                (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getString("name"), rs.getString("term")});
+        int size = courses.size();
+        long[] ids = new long[size];
+        String[] names = new String[size];
+        int[] terms = new int[size];
+        for (int i = 0; i < size; i++) {
+            Object[] row = courses.get(i);
+            ids[i] = (Long) row[0];
+            names[i] = (String) row[1];
+            terms[i] = termIndex((String) row[2]);
+        }
+
+        Map<Integer, List<Integer>> prerequisites = new HashMap<>();
+        jdbcTemplate.query("SELECT course_id, prerequisite_id FROM course_prerequisites", rs -> {
+            int course = Arrays.binarySearch(ids, rs.getLong("course_id"));
+            int prerequisite = Arrays.binarySearch(ids, rs.getLong("prerequisite_id"));
+            if (course >= 0 && prerequisite >= 0) {
+                prerequisites.computeIfAbsent(course, k -> new ArrayList<>()).add(prerequisite);
+            }
+        });
+        Map<Integer, List<MeetingTime>> meetings = new HashMap<>();
+        jdbcTemplate.query("SELECT course_id, day_of_week, start_time, end_time FROM course_meetings", rs -> {
+            int course = Arrays.binarySearch(ids, rs.getLong("course_id"));
+            if (course >= 0) {
+                meetings.computeIfAbsent(course, k -> new ArrayList<>()).add(new MeetingTime(
+                        DayOfWeek.valueOf(rs.getString("day_of_week")),
+                        rs.getObject("start_time", LocalTime.class),
+                        rs.getObject("end_time", LocalTime.class)));
+            }
+        });
+
+        int[][] prerequisiteArrays = new int[size][];
+        int[][] meetingArrays = new int[size][];
+        for (int i = 0; i < size; i++) {
+            List<Integer> required = prerequisites.getOrDefault(i, List.of());
+            prerequisiteArrays[i] = required.stream().mapToInt(Integer::intValue).toArray();
+            meetingArrays[i] = flatten(meetings.getOrDefault(i, List.of()));
+        }
+        snapshot = new Snapshot(ids, names, terms, prerequisiteArrays, meetingArrays);
+        logger.info("Loaded requirement index for {} courses in {}ms", size, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Re-reads the term, prerequisites and meetings of one course and swaps in a snapshot in which only that
+     * course differs. A course that no longer exists falls back to a full reload.
+     */
+    public synchronized void refreshCourse(long courseId) {
+        List<Object[]> rows = jdbcTemplate.query("SELECT name, term FROM courses WHERE id = ?",
+                (rs, rowNum) -> new Object[]{rs.getString("name"), rs.getString("term")}, courseId);
+        if (rows.isEmpty()) {
+            reload();
+            return;
+        }
+        List<Long> prerequisiteIds = jdbcTemplate.queryForList(
+                "SELECT prerequisite_id FROM course_prerequisites WHERE course_id = ?", Long.class, courseId);
+        List<MeetingTime> meetings = jdbcTemplate.query(
+                "SELECT day_of_week, start_time, end_time FROM course_meetings WHERE course_id = ?",
+                (rs, rowNum) -> new MeetingTime(DayOfWeek.valueOf(rs.getString("day_of_week")),
+                        rs.getObject("start_time", LocalTime.class), rs.getObject("end_time", LocalTime.class)), courseId);
+
+        Snapshot old = snapshot;
+        int position = Arrays.binarySearch(old.ids, courseId);
+        long[] ids = old.ids;
+        String[] names = old.names.clone();
+        int[] terms = old.terms.clone();
+        int[][] prerequisites = old.prerequisites.clone();
+        int[][] meetingArrays = old.meetings.clone();
+        if (position < 0) {
+            // A new course; ids are assigned in order, so this is almost always an append
+            position = -position - 1;
+            int size = old.ids.length + 1;
+            ids = insert(old.ids, position, courseId);
+            names = Arrays.copyOf(names, size);
+            terms = Arrays.copyOf(terms, size);
+            prerequisites = Arrays.copyOf(prerequisites, size);
+            meetingArrays = Arrays.copyOf(meetingArrays, size);
+            for (int i = size - 1; i > position; i--) {
+                names[i] = names[i - 1];
+                terms[i] = terms[i - 1];
+                prerequisites[i] = prerequisites[i - 1];
+                meetingArrays[i] = meetingArrays[i - 1];
+            }
+            if (position < size - 1) {
+                for (int i = 0; i < size; i++) {
+                    prerequisites[i] = shift(prerequisites[i], position);
+                }
+            }
+        }
+        names[position] = (String) rows.get(0)[0];
+        terms[position] = termIndex((String) rows.get(0)[1]);
+        int[] required = new int[prerequisiteIds.size()];
+        int count = 0;
+        for (Long prerequisiteId : prerequisiteIds) {
+            int prerequisite = Arrays.binarySearch(ids, prerequisiteId);
+            if (prerequisite >= 0) {
+                required[count++] = prerequisite;
+            }
+        }
+        prerequisites[position] = Arrays.copyOf(required, count);
+        meetingArrays[position] = flatten(meetings);
+        snapshot = new Snapshot(ids, names, terms, prerequisites, meetingArrays);
+        logger.debug("Refreshed course {} in the requirement index", courseId);
+    }
+
+    /**
+     * Checks whether a student enrolled in {@code enrolledCourseIds} (any term) may enroll in {@code courseId}:
+     * every prerequisite must have been taken in an earlier term, and no meeting may overlap a meeting of a course
+     * the student already has in the same term. Returns a message describing the first problem, or {@code null}.
+     * Courses the index does not know yet are not checked.
+     */
+    public String checkEnrollment(long courseId, long[] enrolledCourseIds) {
+        Snapshot index = snapshot;
+        int target = Arrays.binarySearch(index.ids, courseId);
+        if (target < 0) {
+            return null;
+        }
+        int[] enrolled = new int[enrolledCourseIds.length];
+        int count = 0;
+        for (long id : enrolledCourseIds) {
+            int position = Arrays.binarySearch(index.ids, id);
+            // A course the student already has is reported as a duplicate by the caller, not as a conflict
+            if (position >= 0 && position != target) {
+                enrolled[count++] = position;
+            }
+        }
+
+        List<String> missing = null;
+        for (int prerequisite : index.prerequisites[target]) {
+            boolean taken = false;
+            for (int i = 0; i < count && !taken; i++) {
+                taken = enrolled[i] == prerequisite && index.terms[prerequisite] < index.terms[target];
+            }
+            if (!taken) {
+                if (missing == null) {
+                    missing = new ArrayList<>();
+                }
+                missing.add(index.names[prerequisite]);
+            }
+        }
+        if (missing != null) {
+            return "Missing prerequisites: " + String.join(", ", missing);
+        }
+
+        int[] meetings = index.meetings[target];
+        if (meetings.length == 0) {
+            return null;
+        }
+        Schedule schedule = new Schedule();
+        for (int i = 0; i < count; i++) {
+            if (index.terms[enrolled[i]] == index.terms[target]) {
+                schedule.add(enrolled[i], index.meetings[enrolled[i]]);
+            }
+        }
+        schedule.build();
+        for (int m = 0; m < meetings.length; m += 2) {
+            int clash = schedule.findOverlap(meetings[m], meetings[m + 1]);
+            if (clash >= 0) {
+                return "Schedule conflict with " + index.names[clash] + " (" + describe(meetings[m], meetings[m + 1]) + ")";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if making {@code prerequisiteIds} the prerequisites of {@code courseId} would create a
+     * cycle, i.e. {@code courseId} is already reachable from one of them.
+     */
+    public boolean createsCycle(long courseId, List<Long> prerequisiteIds) {
+        Snapshot index = snapshot;
+        int target = Arrays.binarySearch(index.ids, courseId);
+        if (target < 0) {
+            return prerequisiteIds.contains(courseId);
+        }
+        boolean[] visited = new boolean[index.ids.length];
+        int[] stack = new int[index.ids.length + prerequisiteIds.size()];
+        int top = 0;
+        for (Long id : prerequisiteIds) {
+            int position = Arrays.binarySearch(index.ids, id);
+            if (position == target) {
+                return true;
+            }
+            if (position >= 0) {
+                stack[top++] = position;
+            }
+        }
+        while (top > 0) {
+            int current = stack[--top];
+            if (current == target) {
+                return true;
+            }
+            if (visited[current]) {
+                continue;
+            }
+            visited[current] = true;
+            for (int next : index.prerequisites[current]) {
+                if (!visited[next]) {
+                    stack[top++] = next;
+                }
+            }
+        }
+        return false;
+    }
+
+    public List<Long> getPrerequisiteIds(long courseId) {
+        Snapshot index = snapshot;
+        int position = Arrays.binarySearch(index.ids, courseId);
+        if (position < 0) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(index.prerequisites[position].length);
+        for (int prerequisite : index.prerequisites[position]) {
+            ids.add(index.ids[prerequisite]);
+        }
+        return ids;
+    }
+
+    public List<MeetingTime> getMeetings(long courseId) {
+        Snapshot index = snapshot;
+        int position = Arrays.binarySearch(index.ids, courseId);
+        if (position < 0) {
+            return List.of();
+        }
+        int[] meetings = index.meetings[position];
+        List<MeetingTime> result = new ArrayList<>(meetings.length / 2);
+        for (int m = 0; m < meetings.length; m += 2) {
+            DayOfWeek day = DayOfWeek.of(meetings[m] / 1440 + 1);
+            result.add(new MeetingTime(day, LocalTime.of(meetings[m] % 1440 / 60, meetings[m] % 60),
+                    LocalTime.of(meetings[m + 1] % 1440 / 60, meetings[m + 1] % 60)));
+        }
+        return result;
+    }
+
+    private static long[] insert(long[] ids, int position, long id) {
+        long[] result = new long[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, position);
+        result[position] = id;
+        System.arraycopy(ids, position, result, position + 1, ids.length - position);
+        return result;
+    }
+
+    // Positions at or after an inserted course move up by one
+    private static int[] shift(int[] positions, int inserted) {
+        if (positions == null) {
+            return null;
+        }
+        int[] result = positions.clone();
+        for (int i = 0; i < result.length; i++) {
+            if (result[i] >= inserted) {
+                result[i]++;
+            }
+        }
+        return result;
+    }
+
+    private static int termIndex(String term) {
+        try {
+            return AcademicTerm.parse(term).index();
+        } catch (IllegalArgumentException e) {
+            // Courses without a valid term never satisfy a prerequisite or share a timetable
+            return Integer.MIN_VALUE;
+        }
+    }
+
+    private static int[] flatten(List<MeetingTime> meetings) {
+        int[] flat = new int[meetings.size() * 2];
+        List<MeetingTime> sorted = new ArrayList<>(meetings);
+        sorted.sort((a, b) -> Integer.compare(a.startMinuteOfWeek(), b.startMinuteOfWeek()));
+        for (int i = 0; i < sorted.size(); i++) {
+            flat[i * 2] = sorted.get(i).startMinuteOfWeek();
+            flat[i * 2 + 1] = sorted.get(i).endMinuteOfWeek();
+        }
+        return flat;
+    }
+
+    private static String describe(int start, int end) {
+        return DayOfWeek.of(start / 1440 + 1) + " " + LocalTime.of(start % 1440 / 60, start % 60)
+                + "-" + LocalTime.of(end % 1440 / 60, end % 60);
+    }
+
+    private record Snapshot(long[] ids, String[] names, int[] terms, int[][] prerequisites, int[][] meetings) {
+    }
+
+    /**
+     * A student's meetings in one term as an interval index: intervals sorted by start with the running maximum
+     * end, so an overlap test is a binary search plus a short scan back over the candidates.
+     */
+    private static final class Schedule {
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private int[] courses = new int[16];
+        private int[] maxEnds;
+        private int size;
+
+        void add(int course, int[] meetings) {
+            for (int m = 0; m < meetings.length; m += 2) {
+                if (size == starts.length) {
+                    starts = Arrays.copyOf(starts, size * 2);
+                    ends = Arrays.copyOf(ends, size * 2);
+                    courses = Arrays.copyOf(courses, size * 2);
+                }
+                starts[size] = meetings[m];
+                ends[size] = meetings[m + 1];
+                courses[size] = course;
+                size++;
+            }
+        }
+
+        void build() {
+            // Insertion sort: a timetable holds a few dozen meetings at most
+            for (int i = 1; i < size; i++) {
+                int start = starts[i], end = ends[i], course = courses[i];
+                int j = i - 1;
+                while (j >= 0 && starts[j] > start) {
+                    starts[j + 1] = starts[j];
+                    ends[j + 1] = ends[j];
+                    courses[j + 1] = courses[j];
+                    j--;
+                }
+                starts[j + 1] = start;
+                ends[j + 1] = end;
+                courses[j + 1] = course;
+            }
+            maxEnds = new int[size];
+            for (int i = 0; i < size; i++) {
+                maxEnds[i] = i == 0 ? ends[i] : Math.max(maxEnds[i - 1], ends[i]);
+            }
+        }
+
+        // Course position of a meeting overlapping [start, end), or -1
+        int findOverlap(int start, int end) {
+            int low = 0, high = size - 1, last = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] < end) {
+                    last = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            for (int i = last; i >= 0 && maxEnds[i] > start; i--) {
+                if (ends[i] > start) {
+                    return courses[i];
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes course seat availability to Server-Sent Events subscribers of the course's tenant.
+ * <p>
+ * Changes are coalesced per course between flushes, so a burst of enrollments in one course produces a single
+ * event. Each flush serializes a tenant's batch once and writes the same payload to every subscriber of that
+ * tenant; idle subscribers only hold an open emitter and receive a periodic heartbeat.
+ */
+@Service
+public class CourseSeatFeed {
+    private static final Logger logger = LoggerFactory.getLogger(CourseSeatFeed.class);
+
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, SeatUpdate>> pending = new ConcurrentHashMap<>();
+
+    public CourseSeatFeed(ObjectMapper objectMapper, @Value("${seat-feed.emitter-timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    public SseEmitter subscribe(String tenant) {
+        List<SseEmitter> tenantSubscribers = subscribers.computeIfAbsent(tenant, k -> new CopyOnWriteArrayList<>());
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> tenantSubscribers.remove(emitter));
+        emitter.onTimeout(() -> tenantSubscribers.remove(emitter));
+        emitter.onError(e -> tenantSubscribers.remove(emitter));
+        tenantSubscribers.add(emitter);
+        logger.debug("Seat feed subscriber added for tenant {}, total: {}", tenant, tenantSubscribers.size());
+        return emitter;
+    }
+
+    public void publish(String tenant, Long courseId, int enrolled, int maxEnrollment) {
+        pending(tenant).put(courseId, new SeatUpdate(courseId, enrolled, maxEnrollment, Math.max(0, maxEnrollment - enrolled), false));
+    }
+
+    public void publishRemoved(String tenant, Long courseId) {
+        pending(tenant).put(courseId, new SeatUpdate(courseId, 0, 0, 0, true));
+    }
+
+    @Scheduled(fixedDelayString = "${seat-feed.flush-interval-ms:250}")
+    public void flush() {
+        pending.forEach((tenant, updates) -> {
+            if (updates.isEmpty()) {
+                return;
+            }
+            List<SeatUpdate> batch = new ArrayList<>(updates.size());
+            for (Long courseId : updates.keySet()) {
+                SeatUpdate update = updates.remove(courseId);
+                if (update != null) {
+                    batch.add(update);
+                }
+            }
+            List<SseEmitter> tenantSubscribers = subscribers.get(tenant);
+            if (batch.isEmpty() || tenantSubscribers == null || tenantSubscribers.isEmpty()) {
+                return;
+            }
+            try {
+                String json = objectMapper.writeValueAsString(batch);
+                broadcast(tenantSubscribers, SseEmitter.event().name("seats").data(json, MediaType.APPLICATION_JSON).build());
+            } catch (Exception e) {
+                logger.error("Failed to publish seat updates for {} courses of tenant {}", batch.size(), tenant, e);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${seat-feed.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> keepalive = SseEmitter.event().comment("keepalive").build();
+        subscribers.values().forEach(tenantSubscribers -> broadcast(tenantSubscribers, keepalive));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    private Map<Long, SeatUpdate> pending(String tenant) {
+        return pending.computeIfAbsent(tenant, k -> new ConcurrentHashMap<>());
+    }
+
+    private void broadcast(List<SseEmitter> tenantSubscribers, Set<ResponseBodyEmitter.DataWithMediaType> payload) {
+        for (SseEmitter emitter : tenantSubscribers) {
+            try {
+                emitter.send(payload);
+            } catch (Exception e) {
+                tenantSubscribers.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    public record SeatUpdate(Long courseId, int enrolled, int maxEnrollment, int seatsLeft, boolean removed) {
+    }
+}
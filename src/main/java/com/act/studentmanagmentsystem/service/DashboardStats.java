@@ -0,0 +1,402 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.Course;
+import com.act.studentmanagmentsystem.entity.CourseStatus;
+import com.act.studentmanagmentsystem.entity.Role;
+import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.service.GpaRecalculationService.GpaChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-memory aggregates behind the admin dashboard, kept per tenant. The tables are scanned once on startup (or
+ * on an explicit {@link #reload()}); afterwards every user, course and enrollment write adjusts the counters in
+ * constant time, so dashboard reads never touch {@code users} or {@code user_courses}. Other nodes apply the
+ * same changes from the {@link EntityChange} broadcast: user changes and grades carry their {@linkplain
+ * #userCreatedDelta deltas}, course changes re-read the one course row.
+ */
+@Service
+public class DashboardStats {
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStats.class);
+
+    static final int GPA_BUCKETS = 8; // [0.0, 0.5), [0.5, 1.0), ... [3.5, 4.0]
+    // pg_notify payloads are limited to 8000 bytes, which also carry the change's type, tenant and origin
+    static final int MAX_DELTA_LENGTH = 7000;
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Course ids are unique across tenants; each load remembers its tenant for the per-tenant totals
+    private final Map<Long, CourseLoad> courses = new HashMap<>();
+    private final Map<String, TenantStats> tenants = new HashMap<>();
+
+    public DashboardStats(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        Map<Long, CourseLoad> loadedCourses = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT c.id, c.tenant_id, c.name, c.instructor, c.status, c.max_enrollment, COUNT(uc.user_id) AS enrolled
+                FROM courses c LEFT JOIN user_courses uc ON uc.course_id = c.id
+                GROUP BY c.id, c.tenant_id, c.name, c.instructor, c.status, c.max_enrollment
+                """, rs -> {
+            CourseLoad load = new CourseLoad(rs.getString("tenant_id"), rs.getString("name"), rs.getString("instructor"),
+                    rs.getString("status"), rs.getInt("max_enrollment"));
+            load.enrolled = rs.getInt("enrolled");
+            loadedCourses.put(rs.getLong("id"), load);
+        });
+
+        Map<String, TenantStats> loadedTenants = new HashMap<>();
+        long[] students = new long[1];
+        jdbcTemplate.query("SELECT tenant_id, status, gpa FROM users WHERE role = ?", rs -> {
+            students[0]++;
+            double gpa = rs.getDouble("gpa");
+            Double value = rs.wasNull() ? null : gpa;
+            TenantStats stats = loadedTenants.computeIfAbsent(rs.getString("tenant_id"), k -> new TenantStats());
+            stats.totalStudents++;
+            stats.gpaByStatus.computeIfAbsent(statusKey(rs.getString("status")), k -> new GpaSummary()).add(value, 1);
+        }, Role.STUDENT.name());
+
+        jdbcTemplate.query("""
+                SELECT tenant_id, CAST(created_at AS date) AS day, COUNT(*) AS total
+                FROM users WHERE created_at IS NOT NULL GROUP BY 1, 2
+                """, rs -> {
+            loadedTenants.computeIfAbsent(rs.getString("tenant_id"), k -> new TenantStats())
+                    .registrationsPerDay.put(rs.getDate("day").toLocalDate(), rs.getLong("total"));
+        });
+
+        synchronized (this) {
+            courses.clear();
+            tenants.clear();
+            tenants.putAll(loadedTenants);
+            loadedCourses.forEach((id, load) -> {
+                courses.put(id, load);
+                applyCourse(load, 1);
+            });
+        }
+        logger.info("Dashboard stats loaded: {} courses, {} students in {} tenants",
+                loadedCourses.size(), students[0], loadedTenants.size());
+    }
+
+    public synchronized void onUserCreated(User user) {
+        addUser(user.getTenantId(), user.getRole() != null ? user.getRole().name() : null,
+                user.getStatus() != null ? user.getStatus().name() : null, user.getGpa(),
+                user.getCreatedAt() != null ? user.getCreatedAt().toLocalDate() : null);
+    }
+
+    /** What {@link #onUserCreated} changed, as sent to other nodes in {@link EntityChange#delta()}. */
+    public static String userCreatedDelta(User user) {
+        return String.join(",",
+                user.getRole() != null ? user.getRole().name() : "",
+                user.getStatus() != null ? user.getStatus().name() : "",
+                user.getGpa() != null ? user.getGpa().toString() : "",
+                user.getCreatedAt() != null ? user.getCreatedAt().toLocalDate().toString() : "");
+    }
+
+    public synchronized void applyUserCreated(String tenant, String delta) {
+        String[] fields = delta.split(",", -1);
+        addUser(tenant, emptyToNull(fields[0]), emptyToNull(fields[1]),
+                fields[2].isEmpty() ? null : Double.valueOf(fields[2]),
+                fields[3].isEmpty() ? null : LocalDate.parse(fields[3]));
+    }
+
+    private void addUser(String tenant, String role, String status, Double gpa, LocalDate createdOn) {
+        TenantStats stats = tenant(tenant);
+        if (createdOn != null) {
+            stats.registrationsPerDay.merge(createdOn, 1L, Long::sum);
+        }
+        if (Role.STUDENT.name().equals(role)) {
+            stats.totalStudents++;
+            stats.gpaByStatus.computeIfAbsent(statusKey(status), k -> new GpaSummary()).add(gpa, 1);
+        }
+    }
+
+    public synchronized void onGpaChanged(String tenant, List<GpaChange> changes) {
+        TenantStats stats = tenant(tenant);
+        for (GpaChange change : changes) {
+            changeGpa(stats, change.status(), change.oldGpa(), change.newGpa());
+        }
+    }
+
+    /**
+     * What {@link #onGpaChanged} changed, as sent to other nodes in {@link EntityChange#delta()}: one
+     * {@code status,old,new} entry per student, split into deltas that each fit into one notification.
+     */
+    public static List<String> gpaChangedDeltas(List<GpaChange> changes) {
+        List<String> deltas = new ArrayList<>();
+        StringBuilder delta = new StringBuilder();
+        for (GpaChange change : changes) {
+            String entry = (change.status() != null ? change.status() : "") + ","
+                    + (change.oldGpa() != null ? change.oldGpa().toString() : "") + "," + change.newGpa();
+            if (!delta.isEmpty() && delta.length() + 1 + entry.length() > MAX_DELTA_LENGTH) {
+                deltas.add(delta.toString());
+                delta.setLength(0);
+            }
+            if (!delta.isEmpty()) {
+                delta.append(';');
+            }
+            delta.append(entry);
+        }
+        if (!delta.isEmpty()) {
+            deltas.add(delta.toString());
+        }
+        return deltas;
+    }
+
+    public synchronized void applyGpaChanged(String tenant, String delta) {
+        TenantStats stats = tenant(tenant);
+        for (String entry : delta.split(";")) {
+            String[] fields = entry.split(",", -1);
+            changeGpa(stats, emptyToNull(fields[0]), fields[1].isEmpty() ? null : Double.valueOf(fields[1]),
+                    Double.parseDouble(fields[2]));
+        }
+    }
+
+    private void changeGpa(TenantStats stats, String status, Double oldGpa, double newGpa) {
+        GpaSummary summary = stats.gpaByStatus.computeIfAbsent(statusKey(status), k -> new GpaSummary());
+        summary.add(oldGpa, -1);
+        summary.add(newGpa, 1);
+    }
+
+    public synchronized void onCourseCreated(Course course) {
+        putCourse(course, 0);
+    }
+
+    // Keeps the tracked enrollment count; only a course this node has never seen costs one COUNT on its partition
+    public synchronized void onCourseUpdated(Course course) {
+        CourseLoad previous = courses.remove(course.getId());
+        int enrolled;
+        if (previous != null) {
+            applyCourse(previous, -1);
+            enrolled = previous.enrolled;
+        } else {
+            enrolled = countEnrollments(course);
+        }
+        putCourse(course, enrolled);
+    }
+
+    /**
+     * Re-reads one course changed on another node. Its enrollment count is kept when known, so this costs one
+     * primary-key lookup; a course that no longer exists is removed.
+     */
+    public void refreshCourse(Long courseId) {
+        List<CourseLoad> found = jdbcTemplate.query(
+                "SELECT tenant_id, name, instructor, status, max_enrollment, term FROM courses WHERE id = ?",
+                (rs, row) -> {
+                    CourseLoad load = new CourseLoad(rs.getString("tenant_id"), rs.getString("name"),
+                            rs.getString("instructor"), rs.getString("status"), rs.getInt("max_enrollment"));
+                    load.term = rs.getString("term");
+                    return load;
+                }, courseId);
+        if (found.isEmpty()) {
+            onCourseDeleted(courseId);
+            return;
+        }
+        CourseLoad load = found.get(0);
+        boolean known;
+        synchronized (this) {
+            CourseLoad previous = courses.get(courseId);
+            known = previous != null;
+            if (known) {
+                load.enrolled = previous.enrolled;
+            }
+        }
+        if (!known) {
+            Integer enrolled = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_courses WHERE course_id = ? AND term = ?",
+                    Integer.class, courseId, load.term);
+            load.enrolled = enrolled != null ? enrolled : 0;
+        }
+        synchronized (this) {
+            CourseLoad previous = courses.put(courseId, load);
+            if (previous != null) {
+                applyCourse(previous, -1);
+                // An enrollment counted while the row was read is not lost
+                load.enrolled = Math.max(load.enrolled, previous.enrolled);
+            }
+            applyCourse(load, 1);
+        }
+    }
+
+    public synchronized void onCourseDeleted(Long courseId) {
+        CourseLoad previous = courses.remove(courseId);
+        if (previous != null) {
+            applyCourse(previous, -1);
+        }
+    }
+
+    public synchronized void onEnrolled(Long courseId) {
+        CourseLoad load = courses.get(courseId);
+        if (load != null) {
+            load.enrolled++;
+            tenant(load.tenant).instructors.computeIfAbsent(instructorKey(load.instructor), k -> new InstructorLoad()).enrolled++;
+        }
+    }
+
+    public synchronized long getTotalStudents(String tenant) {
+        return tenant(tenant).totalStudents;
+    }
+
+    public synchronized long getActiveCourses(String tenant) {
+        return tenant(tenant).activeCourses;
+    }
+
+    public synchronized double getAverageStudentGpa(String tenant) {
+        double sum = 0;
+        long count = 0;
+        for (GpaSummary summary : tenant(tenant).gpaByStatus.values()) {
+            sum += summary.sum;
+            count += summary.graded;
+        }
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    public synchronized Map<String, Object> snapshot(String tenant, int days) {
+        TenantStats stats = tenant(tenant);
+        List<Map<String, Object>> fillRates = new ArrayList<>();
+        courses.forEach((id, load) -> {
+            if (!load.tenant.equals(tenant)) {
+                return;
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("courseId", id);
+            row.put("name", load.name);
+            row.put("enrolled", load.enrolled);
+            row.put("maxEnrollment", load.capacity);
+            row.put("fillRate", load.capacity > 0 ? (double) load.enrolled / load.capacity : 0.0);
+            fillRates.add(row);
+        });
+
+        Map<String, Object> gpaDistribution = new LinkedHashMap<>();
+        stats.gpaByStatus.forEach((status, summary) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("students", summary.students);
+            row.put("average", summary.graded == 0 ? 0.0 : summary.sum / summary.graded);
+            row.put("buckets", summary.buckets.clone());
+            gpaDistribution.put(status, row);
+        });
+
+        Map<String, Long> registrations = new LinkedHashMap<>();
+        stats.registrationsPerDay.tailMap(LocalDate.now().minusDays(days), true)
+                .forEach((day, total) -> registrations.put(day.toString(), total));
+
+        Map<String, Object> instructorLoad = new LinkedHashMap<>();
+        stats.instructors.forEach((instructor, load) -> instructorLoad.put(instructor, Map.of(
+                "courses", load.courses,
+                "enrolled", load.enrolled)));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("totalStudents", stats.totalStudents);
+        result.put("activeCourses", stats.activeCourses);
+        result.put("courseFillRates", fillRates);
+        result.put("gpaDistributionByStatus", gpaDistribution);
+        result.put("registrationsPerDay", registrations);
+        result.put("instructorLoad", instructorLoad);
+        return result;
+    }
+
+    private void putCourse(Course course, int enrolled) {
+        CourseLoad load = new CourseLoad(course.getTenantId(), course.getName(), course.getInstructor(),
+                course.getStatus().name(), course.getMaxEnrollment());
+        load.enrolled = enrolled;
+        courses.put(course.getId(), load);
+        applyCourse(load, 1);
+    }
+
+    private int countEnrollments(Course course) {
+        Integer enrolled = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_courses WHERE course_id = ? AND term = ?",
+                Integer.class, course.getId(), course.getTerm());
+        return enrolled != null ? enrolled : 0;
+    }
+
+    private TenantStats tenant(String tenant) {
+        return tenants.computeIfAbsent(tenant, k -> new TenantStats());
+    }
+
+    private void applyCourse(CourseLoad load, int sign) {
+        TenantStats stats = tenant(load.tenant);
+        if (CourseStatus.ACTIVE.name().equals(load.status)) {
+            stats.activeCourses += sign;
+        }
+        InstructorLoad instructor = stats.instructors.computeIfAbsent(instructorKey(load.instructor), k -> new InstructorLoad());
+        instructor.courses += sign;
+        instructor.enrolled += (long) sign * load.enrolled;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String statusKey(String status) {
+        return status != null ? status : UNKNOWN;
+    }
+
+    private static String instructorKey(String instructor) {
+        return instructor != null && !instructor.isBlank() ? instructor : UNKNOWN;
+    }
+
+    static int bucketOf(double gpa) {
+        int bucket = (int) (gpa * 2);
+        return Math.max(0, Math.min(GPA_BUCKETS - 1, bucket));
+    }
+
+    private static final class TenantStats {
+        private final Map<String, InstructorLoad> instructors = new HashMap<>();
+        private final Map<String, GpaSummary> gpaByStatus = new HashMap<>();
+        private final TreeMap<LocalDate, Long> registrationsPerDay = new TreeMap<>();
+        private long totalStudents;
+        private long activeCourses;
+    }
+
+    private static final class CourseLoad {
+        private final String tenant;
+        private final String name;
+        private final String instructor;
+        private final String status;
+        private final int capacity;
+        private int enrolled;
+        private String term;
+
+        private CourseLoad(String tenant, String name, String instructor, String status, int capacity) {
+            this.tenant = tenant;
+            this.name = name;
+            this.instructor = instructor;
+            this.status = status;
+            this.capacity = capacity;
+        }
+    }
+
+    private static final class InstructorLoad {
+        private long courses;
+        private long enrolled;
+    }
+
+    private static final class GpaSummary {
+        private final long[] buckets = new long[GPA_BUCKETS];
+        private long students;
+        private long graded;
+        private double sum;
+
+        private void add(Double gpa, int sign) {
+            students += sign;
+            if (gpa != null) {
+                graded += sign;
+                sum += sign * gpa;
+                buckets[bucketOf(gpa)] += sign;
+            }
+        }
+    }
+}
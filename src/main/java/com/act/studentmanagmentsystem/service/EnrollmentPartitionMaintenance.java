@@ -0,0 +1,258 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.AcademicTerm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps {@code user_courses} and {@code student_courses} list-partitioned by academic term. Each maintenance run
+ * converts tables that are still plain in place, creates the partitions of the upcoming terms and detaches
+ * partitions older than the retention window. Runs are scheduled, and one also runs once the application is ready
+ * unless {@code app.partitioning.run-on-startup} is off, as in the faststart profile where the schema is owned by
+ * a regular deployment.
+ * <p>
+ * Detached partitions, e.g. {@code user_courses_2021_fall}, have their rows copied to {@code archived_enrollments},
+ * which the prerequisite check reads as well, so a student keeps credit for courses taken before the retention
+ * window. The tables are then dropped: they keep the foreign keys to {@code users} and {@code courses}, which
+ * would otherwise stop {@link ArchivalService} from deleting exactly the old students and courses they reference.
+ * <p>
+ * Enrollments for a term without a partition land in the {@code *_default} partition and are moved out when the
+ * term's partition is created. All DDL runs under an advisory lock so several nodes can start at once.
+ */
+@Service
+public class EnrollmentPartitionMaintenance {
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentPartitionMaintenance.class);
+
+    private static final List<PartitionedTable> TABLES = List.of(
+            new PartitionedTable("user_courses", """
+                    user_id bigint NOT NULL REFERENCES users (id),
+                    course_id bigint NOT NULL REFERENCES courses (id),
+                    term varchar(16) NOT NULL,
+                    CONSTRAINT user_courses_term_pkey PRIMARY KEY (user_id, course_id, term)
+                    """, """
+                    INSERT INTO user_courses (user_id, course_id, term)
+                    SELECT l.user_id, l.course_id, c.term FROM user_courses_unpartitioned l JOIN courses c ON c.id = l.course_id
+                    """),
+            new PartitionedTable("student_courses", """
+                    student_id bigint NOT NULL REFERENCES users (id),
+                    course_id bigint NOT NULL REFERENCES courses (id),
+                    term varchar(16) NOT NULL,
+                    enrolled_at timestamp(6),
+                    CONSTRAINT student_courses_term_pkey PRIMARY KEY (student_id, course_id, term)
+                    """, """
+                    INSERT INTO student_courses (student_id, course_id, term, enrolled_at)
+                    SELECT l.student_id, l.course_id, c.term, l.enrolled_at FROM student_courses_unpartitioned l JOIN courses c ON c.id = l.course_id
+                    """));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int termsAhead;
+    private final int retainTerms;
+    private final boolean runOnStartup;
+
+    public EnrollmentPartitionMaintenance(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                          @Value("${app.partitioning.enabled:true}") boolean enabled,
+                                          @Value("${app.partitioning.terms-ahead:3}") int termsAhead,
+                                          @Value("${app.partitioning.retain-terms:12}") int retainTerms,
+                                          @Value("${app.partitioning.run-on-startup:true}") boolean runOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.termsAhead = termsAhead;
+        this.retainTerms = retainTerms;
+        this.runOnStartup = runOnStartup;
+    }
+
+    // Hibernate has updated the schema by now, and readiness waits for this run
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (!enabled) {
+            logger.info("Enrollment partitioning is disabled");
+        } else if (runOnStartup) {
+            maintain();
+        }
+    }
+
+    @Scheduled(cron = "${app.partitioning.cron:0 0 4 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        convertTables();
+        ensureUpcomingPartitions();
+        if (retainTerms > 0) {
+            detachOlderThan(AcademicTerm.current().plus(-retainTerms));
+        }
+    }
+
+    private void convertTables() {
+        AcademicTerm current = AcademicTerm.current();
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            int backfilled = jdbcTemplate.update("UPDATE courses SET term = ? WHERE term IS NULL", current.toString());
+            if (backfilled > 0) {
+                logger.info("Assigned term {} to {} courses without a term", current, backfilled);
+            }
+            for (PartitionedTable table : TABLES) {
+                convertIfNeeded(table);
+            }
+        });
+    }
+
+    /**
+     * Creates the partitions of {@code term} if they do not exist yet, moving any of its rows out of the default
+     * partitions.
+     */
+    public void ensurePartitions(AcademicTerm term) {
+        if (!enabled) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            for (PartitionedTable table : TABLES) {
+                createPartition(table.name(), term);
+            }
+        });
+    }
+
+    private void ensureUpcomingPartitions() {
+        AcademicTerm current = AcademicTerm.current();
+        for (int i = 0; i <= termsAhead; i++) {
+            ensurePartitions(current.plus(i));
+        }
+    }
+
+    private void convertIfNeeded(PartitionedTable table) {
+        String kind = jdbcTemplate.queryForObject(
+                "SELECT (SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?))", String.class, table.name());
+        if ("p".equals(kind)) {
+            return;
+        }
+        String legacy = table.name() + "_unpartitioned";
+        if (kind != null) {
+            jdbcTemplate.execute("ALTER TABLE " + table.name() + " RENAME TO " + legacy);
+        }
+        jdbcTemplate.execute("CREATE TABLE " + table.name() + " (" + table.columns() + ") PARTITION BY LIST (term)");
+        jdbcTemplate.execute("CREATE INDEX idx_" + table.name() + "_course ON " + table.name() + " (course_id)");
+        jdbcTemplate.execute("CREATE TABLE " + table.name() + "_default PARTITION OF " + table.name() + " DEFAULT");
+        if (kind == null) {
+            logger.info("Created {} as a table partitioned by term", table.name());
+            return;
+        }
+
+        List<String> terms = jdbcTemplate.queryForList(
+                "SELECT DISTINCT c.term FROM " + legacy + " l JOIN courses c ON c.id = l.course_id", String.class);
+        for (String term : terms) {
+            createPartition(table.name(), AcademicTerm.parse(term));
+        }
+        int rows = jdbcTemplate.update(table.copySql());
+        jdbcTemplate.execute("DROP TABLE " + legacy);
+        logger.info("Converted {} to a table partitioned by term: {} rows in {} terms", table.name(), rows, terms.size());
+    }
+
+    private void createPartition(String table, AcademicTerm term) {
+        String partition = table + "_" + term.partitionSuffix();
+        if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+            return;
+        }
+        String values = "FOR VALUES IN ('" + term + "')";
+        Integer stray = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + "_default WHERE term = ?", Integer.class, term.toString());
+        if (stray == null || stray == 0) {
+            jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + table + " " + values);
+        } else {
+            // A partition cannot be created while the default partition holds rows for its values
+            jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + table + " INCLUDING DEFAULTS)");
+            jdbcTemplate.update("INSERT INTO " + partition + " SELECT * FROM " + table + "_default WHERE term = ?", term.toString());
+            jdbcTemplate.update("DELETE FROM " + table + "_default WHERE term = ?", term.toString());
+            jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + partition + " " + values);
+            logger.info("Moved {} rows of term {} out of {}_default", stray, term, table);
+        }
+        logger.info("Created partition {}", partition);
+    }
+
+    private void detachOlderThan(AcademicTerm oldest) {
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            Pattern name = Pattern.compile("(?:user|student)_courses_(\\d{4})_(spring|summer|fall)");
+            Set<AcademicTerm> terms = new TreeSet<>();
+            // Partitions left detached by earlier versions are no longer in pg_inherits, so match on the name
+            for (String partition : jdbcTemplate.queryForList("""
+                    SELECT relname FROM pg_class
+                    WHERE relkind = 'r' AND relnamespace = current_schema()::regnamespace
+                      AND relname ~ '^(user|student)_courses_[0-9]{4}_(spring|summer|fall)$'
+                    """, String.class)) {
+                Matcher matcher = name.matcher(partition);
+                if (matcher.matches()) {
+                    terms.add(AcademicTerm.parse(matcher.group(1) + "-" + matcher.group(2)));
+                }
+            }
+            for (AcademicTerm term : terms) {
+                if (term.compareTo(oldest) < 0) {
+                    detach(term);
+                }
+            }
+        });
+    }
+
+    private void detach(AcademicTerm term) {
+        String enrollments = "user_courses_" + term.partitionSuffix();
+        String enrolledAt = "student_courses_" + term.partitionSuffix();
+        boolean hasEnrollments = detachIfPresent("user_courses", enrollments);
+        boolean hasEnrolledAt = detachIfPresent("student_courses", enrolledAt);
+        int archived = 0;
+        if (hasEnrollments) {
+            archived = jdbcTemplate.update("""
+                    INSERT INTO archived_enrollments (student_id, course_id, course_name, course_instructor, term, enrolled_at, grade, archived_at)
+                    SELECT uc.user_id, c.id, c.name, c.instructor, uc.term, %s, g.grade, now()
+                    FROM %s uc
+                    JOIN courses c ON c.id = uc.course_id
+                    %s
+                    LEFT JOIN enrollment_grades g ON g.student_id = uc.user_id AND g.course_id = uc.course_id AND g.term = uc.term
+                    ON CONFLICT DO NOTHING
+                    """.formatted(hasEnrolledAt ? "sc.enrolled_at" : "NULL", enrollments, hasEnrolledAt
+                    ? "LEFT JOIN " + enrolledAt + " sc ON sc.student_id = uc.user_id AND sc.course_id = uc.course_id" : ""));
+            jdbcTemplate.execute("DROP TABLE " + enrollments);
+        }
+        if (hasEnrolledAt) {
+            jdbcTemplate.execute("DROP TABLE " + enrolledAt);
+        }
+        logger.info("Detached the partitions of term {}, archived {} enrollments and dropped the partition tables", term, archived);
+    }
+
+    // Detaches the partition if it is still attached; returns whether the table exists at all
+    private boolean detachIfPresent(String table, String partition) {
+        if (!jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+            return false;
+        }
+        boolean attached = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass(?) AND inhparent = to_regclass(?))",
+                Boolean.class, partition, table);
+        if (attached) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+        }
+        return true;
+    }
+
+    private void lock() {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext('enrollment_partitions'))", Object.class);
+    }
+
+    private record PartitionedTable(String name, String columns, String copySql) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.Course;
+import com.act.studentmanagmentsystem.entity.EnrollmentView;
+import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.repository.EnrollmentViewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps the {@code enrollment_views} read model in step with enrollments, course edits and profile edits.
+ * Each change touches only the rows of the affected course or student.
+ */
+@Service
+public class EnrollmentProjection {
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentProjection.class);
+
+    private static final String BACKFILL_SQL = """
+            INSERT INTO enrollment_views (student_id, course_id, student_first_name, student_last_name, student_email,
+                                          student_status, course_name, course_instructor, course_status, term, enrolled_at)
+            SELECT DISTINCT u.id, c.id, u.first_name, u.last_name, u.email, u.status, c.name, c.instructor, c.status, c.term, sc.enrolled_at
+            FROM user_courses uc
+            JOIN users u ON u.id = uc.user_id
+            JOIN courses c ON c.id = uc.course_id
+            LEFT JOIN student_courses sc ON sc.student_id = uc.user_id AND sc.course_id = uc.course_id AND sc.term = uc.term
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final EnrollmentViewRepository enrollmentViewRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public EnrollmentProjection(EnrollmentViewRepository enrollmentViewRepository, JdbcTemplate jdbcTemplate) {
+        this.enrollmentViewRepository = enrollmentViewRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (enrollmentViewRepository.count() > 0) {
+            return;
+        }
+        int rows = jdbcTemplate.update(BACKFILL_SQL);
+        logger.info("Backfilled enrollment read model with {} rows", rows);
+    }
+
+    public void onEnrolled(User student, Course course) {
+        EnrollmentView view = new EnrollmentView();
+        view.setStudentId(student.getId());
+        view.setCourseId(course.getId());
+        view.setStudentFirstName(student.getFirstName());
+        view.setStudentLastName(student.getLastName());
+        view.setStudentEmail(student.getEmail());
+        view.setStudentStatus(student.getStatus());
+        view.setCourseName(course.getName());
+        view.setCourseInstructor(course.getInstructor());
+        view.setCourseStatus(course.getStatus());
+        view.setTerm(course.getTerm());
+        view.setEnrolledAt(LocalDateTime.now());
+        enrollmentViewRepository.save(view);
+    }
+
+    public void onCourseChanged(Course course) {
+        enrollmentViewRepository.updateCourse(course.getId(), course.getName(), course.getInstructor(), course.getStatus());
+    }
+
+    public void onCourseRemoved(Long courseId) {
+        enrollmentViewRepository.deleteByCourseId(courseId);
+    }
+
+    public void onStudentChanged(User student) {
+        enrollmentViewRepository.updateStudent(student.getId(), student.getFirstName(), student.getLastName(),
+                student.getEmail(), student.getStatus());
+    }
+}
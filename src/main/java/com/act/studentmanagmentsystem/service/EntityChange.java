@@ -0,0 +1,18 @@
+package com.act.studentmanagmentsystem.service;
+
+/**
+ * A committed change to a cached entity, broadcast to every application node.
+ *
+ * @param entityType USER or COURSE
+ * @param entityId   id of the changed entity, or {@code null} when a whole type changed or the delta lists
+ *                   several entities
+ * @param action     what happened, e.g. CREATED, UPDATED, DELETED, ENROLLED
+ * @param tenant     tenant of the changed entity, or {@code null} when the change spans tenants
+ * @param delta      dashboard counter changes the publisher already applied, encoded by {@link DashboardStats};
+ *                   {@code null} when the change does not carry them
+ * @param origin     node id of the publisher
+ */
+public record EntityChange(String entityType, Long entityId, String action, String tenant, String delta, String origin) {
+    public static final String USER = "USER";
+    public static final String COURSE = "COURSE";
+}
@@ -0,0 +1,42 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Appends each notification as one JSON line to a local file, so tests and local setups can inspect what would
+ * have been sent.
+ */
+public class FileNotificationSender implements NotificationSender {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileNotificationSender(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void send(long id, Notification notification) throws IOException {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("id", id);
+        line.put("type", notification.type());
+        line.put("recipient", notification.recipient());
+        line.put("subject", notification.subject());
+        line.put("body", notification.body());
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, objectMapper.writeValueAsString(line) + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
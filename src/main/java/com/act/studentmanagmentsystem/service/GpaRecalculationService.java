@@ -0,0 +1,342 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.GpaRecalculationRun;
+import com.act.studentmanagmentsystem.entity.LetterGrade;
+import com.act.studentmanagmentsystem.repository.GpaRecalculationRunRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * Recomputes {@code users.gpa} from {@code enrollment_grades}. A full run walks the students in id order in
+ * chunks of {@code app.gpa.chunk-size}: each chunk reads the grades of its id range in one ordered query, computes
+ * the averages on a fork-join pool and writes the changed ones back in one JDBC batch, then commits the keyset
+ * cursor together with the updates. A run that fails or is cut short by a restart is resumed from that cursor by
+ * the next {@link #start}; a node that starts while another is running the same run shares its chunks. Runs
+ * are per tenant and cover that tenant's students.
+ * <p>
+ * The GPA is the unweighted mean of the grade points of grades that count toward it. Students without such a
+ * grade keep their current GPA, e.g. one given at registration.
+ */
+@Service
+public class GpaRecalculationService {
+    private static final Logger logger = LoggerFactory.getLogger(GpaRecalculationService.class);
+
+    // A chunk of a full run is a contiguous id range
+    private static final String RANGE_GRADES_SQL = """
+            SELECT student_id, grade FROM enrollment_grades
+            WHERE student_id BETWEEN :first AND :last
+            ORDER BY student_id
+            """;
+
+    // Graded students are scattered across the id space, so only their own grades are read
+    private static final String TARGETED_GRADES_SQL = """
+            SELECT student_id, grade FROM enrollment_grades
+            WHERE student_id = ANY(:ids)
+            ORDER BY student_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final GpaRecalculationRunRepository runRepository;
+    private final DashboardStats dashboardStats;
+    private final InvalidationBus invalidationBus;
+    private final AuditLogService auditLogService;
+    private final int chunkSize;
+    private final ForkJoinPool computePool;
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "gpa-recalculation");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean active = new AtomicBoolean();
+
+    public GpaRecalculationService(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   GpaRecalculationRunRepository runRepository, DashboardStats dashboardStats,
+                                   InvalidationBus invalidationBus, AuditLogService auditLogService,
+                                   @Value("${app.gpa.chunk-size:2000}") int chunkSize,
+                                   @Value("${app.gpa.parallelism:0}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.runRepository = runRepository;
+        this.dashboardStats = dashboardStats;
+        this.invalidationBus = invalidationBus;
+        this.auditLogService = auditLogService;
+        this.chunkSize = chunkSize;
+        this.computePool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        computePool.shutdown();
+    }
+
+    /**
+     * Starts a full recalculation in the background, resuming the latest run if it did not complete. Returns the
+     * run, or {@code null} if this node is already running one.
+     */
+    public GpaRecalculationRun start(String actor) {
+        if (!active.compareAndSet(false, true)) {
+            logger.info("GPA recalculation requested by {} skipped, a run is in progress", actor);
+            return null;
+        }
+        try {
+            GpaRecalculationRun run = runRepository.findFirstByOrderByIdDesc()
+                    .filter(latest -> latest.getStatus() != GpaRecalculationRun.Status.COMPLETED)
+                    .orElse(null);
+            if (run == null) {
+                run = new GpaRecalculationRun();
+                run.setRequestedBy(actor);
+                run.setTotalStudents(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM users WHERE tenant_id = :tenant AND role = 'STUDENT'",
+                        Map.of("tenant", TenantContext.current()), Long.class));
+                run.setStartedAt(LocalDateTime.now());
+                logger.info("Starting GPA recalculation for {} students, requested by {}", run.getTotalStudents(), actor);
+            } else {
+                logger.info("Resuming GPA recalculation run {} after student {} ({} of {} done), requested by {}",
+                        run.getId(), run.getLastStudentId(), run.getProcessedStudents(), run.getTotalStudents(), actor);
+            }
+            run.setStatus(GpaRecalculationRun.Status.RUNNING);
+            run.setError(null);
+            run.setUpdatedAt(LocalDateTime.now());
+            GpaRecalculationRun saved = runRepository.save(run);
+            runner.execute(() -> execute(saved.getId(), saved.getTenantId(), actor));
+            return saved;
+        } catch (RuntimeException e) {
+            active.set(false);
+            throw e;
+        }
+    }
+
+    public boolean isRunning() {
+        return active.get();
+    }
+
+    /** Progress of the latest run, or {@code null} if there has never been one. */
+    public Map<String, Object> progress() {
+        GpaRecalculationRun run = runRepository.findFirstByOrderByIdDesc().orElse(null);
+        if (run == null) {
+            return null;
+        }
+        LocalDateTime end = run.getFinishedAt() != null ? run.getFinishedAt()
+                : run.getUpdatedAt() != null ? run.getUpdatedAt() : run.getStartedAt();
+        double seconds = Math.max(1, Duration.between(run.getStartedAt(), end).toSeconds());
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("id", run.getId());
+        progress.put("status", run.getStatus());
+        progress.put("requestedBy", run.getRequestedBy());
+        progress.put("totalStudents", run.getTotalStudents());
+        progress.put("processedStudents", run.getProcessedStudents());
+        progress.put("updatedStudents", run.getUpdatedStudents());
+        progress.put("percent", run.getTotalStudents() == 0 ? 100.0
+                : Math.min(100.0, Math.round(run.getProcessedStudents() * 1000.0 / run.getTotalStudents()) / 10.0));
+        progress.put("studentsPerSecond", Math.round(run.getProcessedStudents() / seconds));
+        progress.put("lastStudentId", run.getLastStudentId());
+        progress.put("startedAt", run.getStartedAt());
+        progress.put("updatedAt", run.getUpdatedAt());
+        progress.put("finishedAt", run.getFinishedAt());
+        progress.put("error", run.getError());
+        return progress;
+    }
+
+    /**
+     * Recomputes and stores the GPA of the given students from their grades, in the caller's transaction if there
+     * is one. The students' rows stay locked until that transaction ends, so the returned changes are exact and
+     * can be applied to the dashboard counters as they are.
+     */
+    public List<GpaChange> recalculate(List<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+        long[] ids = studentIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        Map<Long, Object[]> current = new HashMap<>();
+        jdbcTemplate.query("SELECT id, status, gpa FROM users WHERE id = ANY(:ids) FOR UPDATE", params, rs -> {
+            double gpa = rs.getDouble("gpa");
+            current.put(rs.getLong("id"), new Object[]{rs.getString("status"), rs.wasNull() ? null : gpa});
+        });
+        double[] gpa = averages(ids, TARGETED_GRADES_SQL, params);
+
+        List<GpaChange> changes = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            Object[] row = current.get(ids[i]);
+            if (row == null || Double.isNaN(gpa[i]) || Objects.equals(row[1], gpa[i])) {
+                continue;
+            }
+            changes.add(new GpaChange((String) row[0], (Double) row[1], gpa[i]));
+            updates.add(new Object[]{gpa[i], ids[i]});
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate("UPDATE users SET gpa = ? WHERE id = ?", updates);
+        }
+        return changes;
+    }
+
+    // Recalculates one chunk of a full run and returns the number of students whose GPA changed
+    private int recalculateRange(List<Long> studentIds) {
+        long[] ids = studentIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        double[] gpa = averages(ids, RANGE_GRADES_SQL, new MapSqlParameterSource()
+                .addValue("first", ids[0])
+                .addValue("last", ids[ids.length - 1]));
+        List<Object[]> updates = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (!Double.isNaN(gpa[i])) {
+                updates.add(new Object[]{gpa[i], ids[i], gpa[i]});
+            }
+        }
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        int[] counts = jdbcTemplate.getJdbcTemplate().batchUpdate(
+                "UPDATE users SET gpa = ? WHERE id = ? AND gpa IS DISTINCT FROM ?", updates);
+        int changed = 0;
+        for (int count : counts) {
+            changed += Math.max(count, 0);
+        }
+        return changed;
+    }
+
+    // GPA of each of the sorted ids from the grades gradesSql selects, NaN for students without a counted grade
+    private double[] averages(long[] ids, String gradesSql, MapSqlParameterSource params) {
+        int students = ids.length;
+
+        // Grade points grouped by student: the points of ids[i] are points[offsets[i]] up to points[offsets[i + 1]]
+        GradeBuffer buffer = new GradeBuffer();
+        jdbcTemplate.query(gradesSql, params, rs -> {
+            int student = Arrays.binarySearch(ids, rs.getLong("student_id"));
+            LetterGrade grade = LetterGrade.valueOf(rs.getString("grade"));
+            if (student >= 0 && grade.countsTowardGpa()) {
+                buffer.add(student, grade.getPoints());
+            }
+        });
+        int[] offsets = new int[students + 1];
+        for (int row = 0; row < buffer.size; row++) {
+            offsets[buffer.owners[row] + 1]++;
+        }
+        for (int i = 0; i < students; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        double[] gpa = new double[students];
+        computePool.submit(() -> IntStream.range(0, students).parallel().forEach(i -> {
+            int from = offsets[i];
+            int to = offsets[i + 1];
+            if (from == to) {
+                gpa[i] = Double.NaN;
+                return;
+            }
+            double sum = 0;
+            for (int row = from; row < to; row++) {
+                sum += buffer.points[row];
+            }
+            gpa[i] = Math.round(sum / (to - from) * 100) / 100.0;
+        })).join();
+        return gpa;
+    }
+
+    private void execute(long runId, String tenant, String actor) {
+        long started = System.currentTimeMillis();
+        MapSqlParameterSource run = new MapSqlParameterSource("id", runId);
+        TenantContext.set(tenant);
+        try {
+            while (true) {
+                Integer processed = transactionTemplate.execute(status -> processChunk(runId));
+                if (processed == null || processed == 0) {
+                    break;
+                }
+            }
+            jdbcTemplate.update("""
+                    UPDATE gpa_recalculation_runs SET status = 'COMPLETED', finished_at = now(), updated_at = now()
+                    WHERE id = :id AND status = 'RUNNING'
+                    """, run);
+            dashboardStats.reload();
+            invalidationBus.publish(EntityChange.USER, null, "GPA_RECALCULATED");
+            auditLogService.record(actor, "GPA_RECALCULATED", "GPA_RUN", runId, null);
+            logger.info("GPA recalculation run {} finished in {}ms", runId, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            logger.error("GPA recalculation run {} failed, it will resume from its last chunk", runId, e);
+            String message = String.valueOf(e.getMessage());
+            jdbcTemplate.update("""
+                    UPDATE gpa_recalculation_runs SET status = 'FAILED', error = :error, updated_at = now()
+                    WHERE id = :id AND status = 'RUNNING'
+                    """, run.addValue("error", message.length() > 1000 ? message.substring(0, 1000) : message));
+        } finally {
+            TenantContext.clear();
+            active.set(false);
+        }
+    }
+
+    // One chunk per transaction; the row lock on the run serializes nodes working on the same run
+    private int processChunk(long runId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", runId);
+        List<Map<String, Object>> cursor = jdbcTemplate.queryForList(
+                "SELECT tenant_id, last_student_id FROM gpa_recalculation_runs WHERE id = :id AND status = 'RUNNING' FOR UPDATE",
+                params);
+        if (cursor.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE tenant_id = :tenant AND role = 'STUDENT' AND id > :cursor ORDER BY id LIMIT :limit",
+                new MapSqlParameterSource("tenant", cursor.get(0).get("tenant_id"))
+                        .addValue("cursor", cursor.get(0).get("last_student_id"))
+                        .addValue("limit", chunkSize), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int updated = recalculateRange(ids);
+        jdbcTemplate.update("""
+                UPDATE gpa_recalculation_runs
+                SET last_student_id = :last, processed_students = processed_students + :processed,
+                    updated_students = updated_students + :updated, updated_at = now()
+                WHERE id = :id
+                """, params
+                .addValue("last", ids.get(ids.size() - 1))
+                .addValue("processed", ids.size())
+                .addValue("updated", updated));
+        logger.debug("GPA run {}: {} students up to id {}, {} changed", runId, ids.size(), ids.get(ids.size() - 1), updated);
+        return ids.size();
+    }
+
+    /** A stored GPA that changed, with the student's status for the dashboard's per-status distribution. */
+    public record GpaChange(String status, Double oldGpa, double newGpa) {
+    }
+
+    private static final class GradeBuffer {
+        private int[] owners = new int[1024];
+        private double[] points = new double[1024];
+        private int size;
+
+        void add(int owner, double value) {
+            if (size == owners.length) {
+                owners = Arrays.copyOf(owners, size * 2);
+                points = Arrays.copyOf(points, size * 2);
+            }
+            owners[size] = owner;
+            points[size] = value;
+            size++;
+        }
+    }
+}
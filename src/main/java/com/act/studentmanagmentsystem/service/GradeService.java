@@ -0,0 +1,98 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.Course;
+import com.act.studentmanagmentsystem.entity.LetterGrade;
+import com.act.studentmanagmentsystem.service.GpaRecalculationService.GpaChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records final grades for a course and keeps the graded students' GPAs in step: the grades are upserted in one
+ * JDBC batch and the affected GPAs recalculated in the same transaction. The GPA changes are applied to the
+ * dashboard counters of this node and sent to the other nodes as deltas.
+ */
+@Service
+public class GradeService {
+    private static final Logger logger = LoggerFactory.getLogger(GradeService.class);
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO enrollment_grades (student_id, course_id, term, grade, graded_at, graded_by)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (student_id, course_id, term)
+            DO UPDATE SET grade = EXCLUDED.grade, graded_at = EXCLUDED.graded_at, graded_by = EXCLUDED.graded_by
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final GpaRecalculationService gpaRecalculationService;
+    private final DashboardStats dashboardStats;
+    private final InvalidationBus invalidationBus;
+    private final AuditLogService auditLogService;
+
+    public GradeService(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                        GpaRecalculationService gpaRecalculationService, DashboardStats dashboardStats,
+                        InvalidationBus invalidationBus, AuditLogService auditLogService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gpaRecalculationService = gpaRecalculationService;
+        this.dashboardStats = dashboardStats;
+        this.invalidationBus = invalidationBus;
+        this.auditLogService = auditLogService;
+    }
+
+    /**
+     * Stores {@code grades} (student id to grade) for the course's term and returns the number of GPAs that
+     * changed.
+     *
+     * @throws IllegalArgumentException if a student is not enrolled in the course; nothing is stored then
+     */
+    public int submit(Course course, Map<Long, LetterGrade> grades, String actor) {
+        if (grades.isEmpty()) {
+            return 0;
+        }
+        List<GpaChange> changes = transactionTemplate.execute(status -> {
+            Set<Long> enrolled = new HashSet<>(jdbcTemplate.queryForList("""
+                    SELECT user_id FROM user_courses
+                    WHERE course_id = :courseId AND term = :term AND user_id IN (:ids)
+                    """, new MapSqlParameterSource()
+                    .addValue("courseId", course.getId())
+                    .addValue("term", course.getTerm())
+                    .addValue("ids", grades.keySet()), Long.class));
+            List<Long> notEnrolled = grades.keySet().stream().filter(id -> !enrolled.contains(id)).sorted().toList();
+            if (!notEnrolled.isEmpty()) {
+                throw new IllegalArgumentException("Students not enrolled in course: " + notEnrolled);
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>(grades.size());
+            grades.forEach((studentId, grade) -> rows.add(new Object[]{
+                    studentId, course.getId(), course.getTerm(), grade.name(), now, actor}));
+            jdbcTemplate.getJdbcTemplate().batchUpdate(UPSERT_SQL, rows);
+            return gpaRecalculationService.recalculate(new ArrayList<>(grades.keySet()));
+        });
+
+        auditLogService.record(actor, "GRADED", "COURSE", course.getId(), "students=" + grades.size());
+        int changed = changes == null ? 0 : changes.size();
+        if (changed > 0) {
+            dashboardStats.onGpaChanged(course.getTenantId(), changes);
+            for (String delta : DashboardStats.gpaChangedDeltas(changes)) {
+                invalidationBus.publish(EntityChange.USER, null, "GRADED", course.getTenantId(), delta);
+            }
+        }
+        logger.info("Recorded {} grades for course {}, {} GPAs changed", grades.size(), course.getId(), changed);
+        return changed;
+    }
+}
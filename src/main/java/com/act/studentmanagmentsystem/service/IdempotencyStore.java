@@ -0,0 +1,170 @@
+package com.act.studentmanagmentsystem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Responses of requests sent with an {@code Idempotency-Key}, kept for {@code app.idempotency.ttl-seconds} in a
+ * bounded LRU map. The first request for a key reserves it and executes; duplicates arriving while it runs wait
+ * on the same future, later ones get the stored response.
+ * <p>
+ * With {@code app.idempotency.jdbc=true} completed responses are also written to {@code idempotency_keys}, so
+ * retries that reach another node or arrive after a restart are still answered from the store. Requests that are
+ * in flight are only collapsed within one node.
+ */
+@Service
+public class IdempotencyStore {
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean jdbc;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+
+    public IdempotencyStore(JdbcTemplate jdbcTemplate,
+                            @Value("${app.idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${app.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                            @Value("${app.idempotency.jdbc:false}") boolean jdbc) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbc = jdbc;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                // In-flight entries are kept even over the limit, their duplicates are waiting on them
+                return size() > maxEntries && eldest.getValue().result.isDone();
+            }
+        };
+    }
+
+    /**
+     * Reserves {@code key} for the caller. Returns {@code null} if the caller now owns the key and must call
+     * {@link #complete} or {@link #release}; otherwise returns the result of the request that owns it, which is
+     * already done for replays and still running for concurrent duplicates.
+     *
+     * @throws IllegalStateException if the key was used for a request with a different body
+     */
+    public CompletableFuture<StoredResponse> reserve(String key, String requestHash) {
+        long now = System.currentTimeMillis();
+        Entry existing;
+        synchronized (entries) {
+            existing = entries.get(key);
+            if (existing != null && existing.expiresAt < now) {
+                entries.remove(key);
+                existing = null;
+            }
+            if (existing == null && !jdbc) {
+                entries.put(key, new Entry(requestHash, new CompletableFuture<>(), now + ttlMillis));
+                return null;
+            }
+        }
+        if (existing == null) {
+            // Look in the shared table outside the lock, then re-check in case another thread reserved meanwhile
+            Entry stored = load(key);
+            synchronized (entries) {
+                existing = entries.get(key);
+                if (existing == null) {
+                    if (stored == null) {
+                        entries.put(key, new Entry(requestHash, new CompletableFuture<>(), now + ttlMillis));
+                        return null;
+                    }
+                    entries.put(key, stored);
+                    existing = stored;
+                }
+            }
+        }
+        if (!existing.requestHash.equals(requestHash)) {
+            throw new IllegalStateException("Idempotency-Key was already used for a different request");
+        }
+        return existing.result;
+    }
+
+    public void complete(String key, StoredResponse response) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            return;
+        }
+        entry.result.complete(response);
+        if (jdbc) {
+            try {
+                jdbcTemplate.update("""
+                        INSERT INTO idempotency_keys (idempotency_key, request_hash, status, content_type, body, created_at, expires_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?)
+                        ON CONFLICT DO NOTHING
+                        """, key, entry.requestHash, response.status(), response.contentType(), response.body(),
+                        Timestamp.valueOf(LocalDateTime.now()), new Timestamp(entry.expiresAt));
+            } catch (Exception e) {
+                logger.error("Failed to persist idempotent response for key {}", key, e);
+            }
+        }
+    }
+
+    /**
+     * Gives up the reservation without storing a response (e.g. the request failed with a server error) so that
+     * a retry executes again. Waiting duplicates receive {@code null} and execute themselves.
+     */
+    public void release(String key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.remove(key);
+        }
+        if (entry != null) {
+            entry.result.complete(null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        synchronized (entries) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (entry.expiresAt < now && entry.result.isDone()) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        if (jdbc) {
+            removed += jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?", Timestamp.valueOf(LocalDateTime.now()));
+        }
+        if (removed > 0) {
+            logger.debug("Purged {} expired idempotency entries", removed);
+        }
+    }
+
+    private Entry load(String key) {
+        List<Entry> rows = jdbcTemplate.query("""
+                SELECT request_hash, status, content_type, body, expires_at
+                FROM idempotency_keys WHERE idempotency_key = ? AND expires_at > ?
+                """, (rs, rowNum) -> new Entry(
+                rs.getString("request_hash"),
+                CompletableFuture.completedFuture(new StoredResponse(
+                        rs.getInt("status"), rs.getString("content_type"), rs.getBytes("body"))),
+                rs.getTimestamp("expires_at").getTime()), key, Timestamp.valueOf(LocalDateTime.now()));
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    public record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    private record Entry(String requestHash, CompletableFuture<StoredResponse> result, long expiresAt) {
+    }
+}
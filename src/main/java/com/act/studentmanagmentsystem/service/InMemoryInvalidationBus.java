@@ -0,0 +1,45 @@
+package com.act.studentmanagmentsystem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Single-node bus that delivers changes synchronously to local listeners. Used for tests and
+ * single-instance deployments.
+ */
+public class InMemoryInvalidationBus implements InvalidationBus {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryInvalidationBus.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<EntityChange>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String entityType, Long entityId, String action, String tenant, String delta) {
+        deliver(new EntityChange(entityType, entityId, action, tenant, delta, nodeId));
+    }
+
+    @Override
+    public void subscribe(Consumer<EntityChange> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    protected void deliver(EntityChange change) {
+        for (Consumer<EntityChange> listener : listeners) {
+            try {
+                listener.accept(change);
+            } catch (Exception e) {
+                logger.error("Invalidation listener failed for {}", change, e);
+            }
+        }
+    }
+}
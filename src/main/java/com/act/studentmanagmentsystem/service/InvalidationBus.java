@@ -0,0 +1,20 @@
+package com.act.studentmanagmentsystem.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts entity changes to all application nodes so in-process caches can be evicted consistently.
+ * Listeners are also invoked for changes published by the local node.
+ */
+public interface InvalidationBus {
+    void publish(String entityType, Long entityId, String action, String tenant, String delta);
+
+    // A change to a whole entity type across tenants, e.g. after a batch job
+    default void publish(String entityType, Long entityId, String action) {
+        publish(entityType, entityId, action, null, null);
+    }
+
+    void subscribe(Consumer<EntityChange> listener);
+
+    String nodeId();
+}
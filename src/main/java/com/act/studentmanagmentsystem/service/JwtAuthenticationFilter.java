@@ -1,10 +1,14 @@
 package com.act.studentmanagmentsystem.service;
 
+import com.act.studentmanagmentsystem.entity.Role;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import jakarta.servlet.FilterChain;
@@ -12,10 +16,26 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Authenticates bearer tokens. The token is verified once per request and every claim is read from that single
+ * parse; the granted authorities are shared immutable lists, one per {@link Role}.
+ */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    // Keyed by name so the lookup needs neither Role.valueOf (which throws on unknown names) nor a values() copy
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES = new HashMap<>();
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role.name(), List.of(new SimpleGrantedAuthority(role.name())));
+        }
+    }
+
     private final JwtUtil jwtUtil;
 
     public JwtAuthenticationFilter(JwtUtil jwtUtil) {
@@ -25,27 +45,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
-        String header = request.getHeader("Authorization");
-        if (header != null && header.startsWith("Bearer ")) {
-            String token = header.replace("Bearer ", "");
-            logger.debug("Processing JWT from request: {}", token);
-            try {
-                if (jwtUtil.validateToken(token)) {
-                    String email = jwtUtil.extractEmail(token);
-                    String role = jwtUtil.extractRole(token);
-                    logger.info("Authenticated user: {} with role: {}", email, role);
-                    UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                            email, null, Collections.singletonList(new SimpleGrantedAuthority(role)));
-                    SecurityContextHolder.getContext().setAuthentication(auth);
-                } else {
-                    logger.warn("Invalid JWT token: {}", token);
-                }
-            } catch (Exception e) {
-                logger.error("Error processing JWT token: {}", token, e);
+        String token = JwtUtil.bearerToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+        String tenant = null;
+        if (token != null) {
+            Claims claims = jwtUtil.parseClaims(token);
+            if (claims != null) {
+                String email = claims.getSubject();
+                String role = claims.get("role", String.class);
+                tenant = claims.get("tenant", String.class);
+                logger.debug("Authenticated user: {} with role: {}", email, role);
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(email, null, authorities(role)));
             }
         } else {
             logger.debug("No Bearer token found in request");
         }
-        chain.doFilter(request, response);
+
+        // An authenticated caller is bound to the tenant in their token; the header only selects the campus
+        // for anonymous requests such as login, registration and the public catalog
+        if (tenant == null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            tenant = request.getHeader(TenantContext.TENANT_HEADER);
+        }
+        if (tenant != null && !TenantContext.isValid(tenant)) {
+            logger.warn("Rejected request with invalid tenant: {}", tenant);
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid tenant");
+            return;
+        }
+        try {
+            if (tenant != null) {
+                TenantContext.set(tenant);
+            }
+            chain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    static List<GrantedAuthority> authorities(String role) {
+        List<GrantedAuthority> authorities = role != null ? AUTHORITIES.get(role) : null;
+        if (authorities != null) {
+            return authorities;
+        }
+        return role != null ? List.of(new SimpleGrantedAuthority(role)) : List.of();
     }
-}
\ No newline at end of file
+}
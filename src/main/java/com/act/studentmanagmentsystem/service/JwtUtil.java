@@ -1,5 +1,7 @@
 package com.act.studentmanagmentsystem.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
@@ -8,28 +10,41 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
 @Component
 public class JwtUtil {
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
-    @Value("${jwt.secret}")
-    private String secret;
+    public static final String BEARER_PREFIX = "Bearer ";
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // Both are immutable and thread-safe, so they are built once instead of per token
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
+    /**
+     * The token of an {@code Authorization} header value, or {@code null} if it is not a bearer credential.
+     */
+    public static String bearerToken(String header) {
+        return header != null && header.startsWith(BEARER_PREFIX) ? header.substring(BEARER_PREFIX.length()) : null;
     }
 
-    public String generateToken(String email, String role) {
-        logger.info("Generating JWT for email: {}", email);
+    public String generateToken(String email, String role, String tenant) {
+        logger.info("Generating JWT for email: {} in tenant: {}", email, tenant);
         try {
             return Jwts.builder()
                     .subject(email)
                     .claim("role", role)
+                    .claim("tenant", tenant)
                     .issuedAt(new Date())
                     .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10)) // 10 hours
-                    .signWith(getSigningKey())
+                    .signWith(signingKey)
                     .compact();
         } catch (Exception e) {
             logger.error("Failed to generate JWT for email: {}", email, e);
@@ -37,48 +52,15 @@ public class JwtUtil {
         }
     }
 
-    public String extractEmail(String token) {
-        logger.debug("Extracting email from JWT: {}", token);
-        try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
-        } catch (Exception e) {
-            logger.error("Failed to extract email from JWT", e);
-            throw new RuntimeException("JWT parsing failed", e);
-        }
-    }
-
-    public String extractRole(String token) {
-        logger.debug("Extracting role from JWT: {}", token);
-        try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .get("role", String.class);
-        } catch (Exception e) {
-            logger.error("Failed to extract role from JWT", e);
-            throw new RuntimeException("JWT parsing failed", e);
-        }
-    }
-
-    public boolean validateToken(String token) {
-        logger.debug("Validating JWT: {}", token);
+    /**
+     * Verifies {@code token} once and returns all of its claims, or {@code null} if it is invalid or expired.
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            logger.info("JWT validation successful");
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (Exception e) {
             logger.warn("JWT validation failed: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
-}
\ No newline at end of file
+}
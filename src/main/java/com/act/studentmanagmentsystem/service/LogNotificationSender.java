@@ -0,0 +1,18 @@
+package com.act.studentmanagmentsystem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes notifications to the application log. The default sender, for development and tests; the body is not
+ * logged because it can contain a password setup link. An admin can issue a new link for an account whose
+ * notification was only logged.
+ */
+public class LogNotificationSender implements NotificationSender {
+    private static final Logger logger = LoggerFactory.getLogger(LogNotificationSender.class);
+
+    @Override
+    public void send(long id, Notification notification) {
+        logger.info("Notification {} {} to {}: {}", id, notification.type(), notification.recipient(), notification.subject());
+    }
+}
@@ -0,0 +1,36 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.User;
+
+/**
+ * Message to one recipient, as stored in the outbox and handed to a {@link NotificationSender}.
+ */
+public record Notification(String type, String recipient, String subject, String body) {
+
+    // Carries a single-use setup link, never a password; the dispatcher clears the body once it is delivered
+    public static Notification accountCreated(User user, String setupLink) {
+        return new Notification("ACCOUNT_CREATED", user.getEmail(), "Your account has been created",
+                "Hello " + user.getFirstName() + ",\n\nAn administrator created a " + user.getRole().name()
+                        + " account for " + user.getEmail() + ". Choose your password at " + setupLink
+                        + " before " + user.getPasswordSetupExpiresAt().withNano(0) + "; the link works once.");
+    }
+
+    public static Notification registered(User user) {
+        return new Notification("REGISTERED", user.getEmail(), "Welcome",
+                "Hello " + user.getFirstName() + ",\n\nYour account " + user.getEmail() + " is ready.");
+    }
+
+    public static Notification profileUpdated(User user, boolean passwordChanged) {
+        return new Notification(passwordChanged ? "PASSWORD_CHANGED" : "PROFILE_UPDATED", user.getEmail(),
+                passwordChanged ? "Your password was changed" : "Your profile was updated",
+                "Hello " + user.getFirstName() + ",\n\n"
+                        + (passwordChanged ? "The password of your account was changed."
+                        : "The details of your account were updated.")
+                        + " If this was not you, contact an administrator.");
+    }
+
+    public static Notification enrolled(String email, String courseName, String term) {
+        return new Notification("ENROLLED", email, "Enrolled in " + courseName,
+                "You are enrolled in " + courseName + " for " + term + ".");
+    }
+}
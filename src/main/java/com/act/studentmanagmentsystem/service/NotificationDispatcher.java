@@ -0,0 +1,192 @@
+package com.act.studentmanagmentsystem.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers outbox notifications on its own thread, off the request path and off the shared scheduler. Every
+ * poll claims up to {@code app.notifications.batch-size} due rows with {@code FOR UPDATE SKIP LOCKED}, so several
+ * nodes can dispatch without sending a row twice, and pushes the claimed rows' next attempt out by a lease; a
+ * node that dies mid-batch therefore only delays its rows. Failed deliveries are retried with exponential backoff
+ * and jitter until {@code app.notifications.max-attempts}, after which the row is marked {@code FAILED}.
+ * <p>
+ * Outcomes are counted in {@code notifications.dispatched} tagged {@code sent}, {@code retry} or {@code failed}.
+ */
+@Service
+public class NotificationDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final String CLAIM_SQL = """
+            UPDATE notification_outbox
+            SET attempts = attempts + 1, next_attempt_at = now() + :leaseSeconds * interval '1 second'
+            WHERE id IN (
+                SELECT id FROM notification_outbox
+                WHERE status = 'PENDING' AND next_attempt_at <= now()
+                ORDER BY next_attempt_at, id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id, type, recipient, subject, body, attempts
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NotificationSender sender;
+    private final boolean enabled;
+    private final long pollIntervalMs;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final int retentionDays;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "notification-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public NotificationDispatcher(NamedParameterJdbcTemplate jdbcTemplate, NotificationSender sender, MeterRegistry meterRegistry,
+                                  @Value("${app.notifications.enabled:true}") boolean enabled,
+                                  @Value("${app.notifications.poll-interval-ms:1000}") long pollIntervalMs,
+                                  @Value("${app.notifications.batch-size:100}") int batchSize,
+                                  @Value("${app.notifications.max-attempts:8}") int maxAttempts,
+                                  @Value("${app.notifications.initial-backoff-ms:2000}") long initialBackoffMs,
+                                  @Value("${app.notifications.max-backoff-ms:600000}") long maxBackoffMs,
+                                  @Value("${app.notifications.retention-days:7}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sender = sender;
+        this.enabled = enabled;
+        this.pollIntervalMs = pollIntervalMs;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.retentionDays = retentionDays;
+        this.sent = meterRegistry.counter("notifications.dispatched", "outcome", "sent");
+        this.retried = meterRegistry.counter("notifications.dispatched", "outcome", "retry");
+        this.failed = meterRegistry.counter("notifications.dispatched", "outcome", "failed");
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            logger.info("Notification dispatch disabled, notifications stay in the outbox");
+            return;
+        }
+        executor.scheduleWithFixedDelay(this::pollSafely, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::purgeSafely, 1, 24, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /** Delivers due notifications until none are left; returns how many were attempted. */
+    public int poll() {
+        int attempted = 0;
+        List<Claimed> batch;
+        do {
+            batch = claim();
+            deliver(batch);
+            attempted += batch.size();
+        } while (batch.size() == batchSize && !Thread.currentThread().isInterrupted());
+        return attempted;
+    }
+
+    private List<Claimed> claim() {
+        // A lease well beyond a slow send, so rows are only picked up again if this node stopped
+        long leaseSeconds = Math.max(60, pollIntervalMs / 1000 * 10);
+        return jdbcTemplate.query(CLAIM_SQL, new MapSqlParameterSource()
+                .addValue("leaseSeconds", leaseSeconds)
+                .addValue("limit", batchSize), (rs, rowNum) -> new Claimed(
+                rs.getLong("id"),
+                rs.getInt("attempts"),
+                new Notification(rs.getString("type"), rs.getString("recipient"), rs.getString("subject"), rs.getString("body"))));
+    }
+
+    private void deliver(List<Claimed> batch) {
+        List<Long> delivered = new ArrayList<>(batch.size());
+        for (Claimed claimed : batch) {
+            try {
+                sender.send(claimed.id(), claimed.notification());
+                delivered.add(claimed.id());
+            } catch (Exception e) {
+                reschedule(claimed, e);
+            }
+        }
+        if (!delivered.isEmpty()) {
+            jdbcTemplate.update("""
+                    UPDATE notification_outbox SET status = 'SENT', sent_at = now(), body = NULL, last_error = NULL
+                    WHERE id IN (:ids)
+                    """, new MapSqlParameterSource("ids", delivered));
+            sent.increment(delivered.size());
+        }
+    }
+
+    private void reschedule(Claimed claimed, Exception e) {
+        String error = String.valueOf(e.getMessage());
+        error = error.length() > 1000 ? error.substring(0, 1000) : error;
+        MapSqlParameterSource params = new MapSqlParameterSource("id", claimed.id()).addValue("error", error);
+        if (claimed.attempts() >= maxAttempts) {
+            logger.error("Giving up on notification {} {} to {} after {} attempts",
+                    claimed.id(), claimed.notification().type(), claimed.notification().recipient(), claimed.attempts(), e);
+            jdbcTemplate.update("UPDATE notification_outbox SET status = 'FAILED', last_error = :error WHERE id = :id", params);
+            failed.increment();
+            return;
+        }
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs << Math.min(claimed.attempts() - 1, 20));
+        // Up to 20% jitter so that rows failing together do not retry together
+        backoff += ThreadLocalRandom.current().nextLong(backoff / 5 + 1);
+        logger.warn("Notification {} failed (attempt {} of {}), retrying in {} ms: {}",
+                claimed.id(), claimed.attempts(), maxAttempts, backoff, error);
+        jdbcTemplate.update("""
+                UPDATE notification_outbox SET next_attempt_at = now() + :backoffMs * interval '1 millisecond', last_error = :error
+                WHERE id = :id
+                """, params.addValue("backoffMs", backoff));
+        retried.increment();
+    }
+
+    private void pollSafely() {
+        try {
+            int attempted = poll();
+            if (attempted > 0) {
+                logger.debug("Dispatched {} notifications", attempted);
+            }
+        } catch (Exception e) {
+            logger.error("Notification dispatch failed, retrying on the next poll", e);
+        }
+    }
+
+    private void purgeSafely() {
+        try {
+            int purged = jdbcTemplate.update(
+                    "DELETE FROM notification_outbox WHERE status = 'SENT' AND sent_at < now() - :days * interval '1 day'",
+                    new MapSqlParameterSource("days", retentionDays));
+            if (purged > 0) {
+                logger.info("Purged {} delivered notifications older than {} days", purged, retentionDays);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to purge delivered notifications", e);
+        }
+    }
+
+    private record Claimed(long id, int attempts, Notification notification) {
+    }
+}
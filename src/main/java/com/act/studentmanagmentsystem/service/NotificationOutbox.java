@@ -0,0 +1,60 @@
+package com.act.studentmanagmentsystem.service;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Transactional outbox for notifications. A notification is inserted into {@code notification_outbox} in the
+ * transaction of the change it reports, so it is stored if and only if the change commits, and the request only
+ * pays for one insert; {@link NotificationDispatcher} delivers it afterwards.
+ */
+@Service
+public class NotificationOutbox {
+
+    /** Named-parameter insert, also used with R2DBC by the reactive enrollment endpoint. */
+    public static final String ENQUEUE_SQL = """
+            INSERT INTO notification_outbox (type, recipient, subject, body, status, attempts, next_attempt_at, created_at)
+            VALUES (:type, :recipient, :subject, :body, 'PENDING', 0, now(), now())
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationOutbox(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Adds {@code notification} to the outbox as part of the current transaction.
+     *
+     * @throws IllegalStateException if no transaction is active
+     */
+    public void enqueue(Notification notification) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Notifications must be enqueued inside the transaction of the change");
+        }
+        jdbcTemplate.update(ENQUEUE_SQL, new MapSqlParameterSource()
+                .addValue("type", notification.type())
+                .addValue("recipient", notification.recipient())
+                .addValue("subject", notification.subject())
+                .addValue("body", notification.body()));
+    }
+
+    /**
+     * Runs {@code change} and enqueues the notification built after it in one transaction; the supplier runs
+     * after the change so that it can use generated ids.
+     */
+    public void runWith(Runnable change, Supplier<Notification> notification) {
+        transactionTemplate.executeWithoutResult(status -> {
+            change.run();
+            enqueue(notification.get());
+        });
+    }
+}
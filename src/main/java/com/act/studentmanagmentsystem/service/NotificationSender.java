@@ -0,0 +1,13 @@
+package com.act.studentmanagmentsystem.service;
+
+/**
+ * Delivers outbox notifications. Delivery is at least once: a notification whose send succeeded may be sent
+ * again if the node stops before recording it, so senders that can should deduplicate on {@code id}.
+ */
+public interface NotificationSender {
+
+    /**
+     * @throws Exception if delivery failed; the dispatcher retries with backoff
+     */
+    void send(long id, Notification notification) throws Exception;
+}
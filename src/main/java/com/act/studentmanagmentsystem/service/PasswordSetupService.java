@@ -0,0 +1,85 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Single-use links with which a user chooses the password of an account an administrator created. Only the
+ * SHA-256 hash of a link's token is stored, on the user; the token itself only exists in the link, which goes
+ * to the user in the {@code ACCOUNT_CREATED} notification or once to the admin who issues a new one. A link
+ * expires after {@code app.accounts.setup-link-ttl-hours}, and issuing a new one replaces the previous one.
+ */
+@Service
+public class PasswordSetupService {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final String setupUrl;
+    private final Duration ttl;
+
+    public PasswordSetupService(JdbcTemplate jdbcTemplate, BCryptPasswordEncoder passwordEncoder,
+                                @Value("${app.accounts.setup-url:http://localhost:8080/api/auth/password-setup}") String setupUrl,
+                                @Value("${app.accounts.setup-link-ttl-hours:72}") long ttlHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.setupUrl = setupUrl;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * Gives {@code user} a random password nobody knows and a new setup token, and returns the link carrying the
+     * token. The caller saves the user.
+     */
+    public String issue(User user) {
+        user.setPassword(passwordEncoder.encode(randomToken()));
+        user.setMustChangePassword(true);
+        String token = randomToken();
+        user.setPasswordSetupTokenHash(hash(token));
+        user.setPasswordSetupExpiresAt(LocalDateTime.now().plus(ttl));
+        return setupUrl + "?token=" + token;
+    }
+
+    /**
+     * Sets the password of the user holding {@code token} and invalidates the token. Returns the user's email, or
+     * {@code null} if the token is unknown, used or expired.
+     */
+    public String complete(String token, String password) {
+        // One statement, so a token cannot be used twice by concurrent requests
+        List<String> emails = jdbcTemplate.queryForList("""
+                UPDATE users SET password = ?, must_change_password = false,
+                    password_setup_token_hash = NULL, password_setup_expires_at = NULL
+                WHERE password_setup_token_hash = ? AND password_setup_expires_at > ?
+                RETURNING email
+                """, String.class, passwordEncoder.encode(password), hash(token), Timestamp.valueOf(LocalDateTime.now()));
+        return emails.isEmpty() ? null : emails.get(0);
+    }
+
+    private static String randomToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
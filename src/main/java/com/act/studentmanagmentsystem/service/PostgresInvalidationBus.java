@@ -0,0 +1,138 @@
+package com.act.studentmanagmentsystem.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Multi-node bus on Postgres {@code LISTEN/NOTIFY}. Changes are delivered to local listeners immediately and
+ * sent to the other nodes with {@code pg_notify}; a daemon thread holds one dedicated connection (outside the
+ * pool) that listens on the channel and forwards notifications from other nodes.
+ * <p>
+ * Notifications sent while the listener is reconnecting are lost, so after every reconnect each entity type is
+ * invalidated as a whole.
+ */
+public class PostgresInvalidationBus extends InMemoryInvalidationBus {
+    private static final Logger logger = LoggerFactory.getLogger(PostgresInvalidationBus.class);
+
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final long MAX_BACKOFF_MS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresInvalidationBus(JdbcTemplate jdbcTemplate, String channel, String url, String username, String password) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid invalidation channel name: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public void publish(String entityType, Long entityId, String action, String tenant, String delta) {
+        super.publish(entityType, entityId, action, tenant, delta);
+        // The delta goes last so it may contain the separator itself
+        String payload = entityType + "|" + (entityId != null ? entityId : "") + "|" + action + "|"
+                + (tenant != null ? tenant : "") + "|" + nodeId() + "|" + (delta != null ? delta : "");
+        try {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, payload);
+        } catch (Exception e) {
+            logger.error("Failed to broadcast invalidation {}", payload, e);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen() {
+        long backoff = 500;
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                logger.info("Listening for cache invalidations on channel '{}' as node {}", channel, nodeId());
+                if (reconnecting) {
+                    invalidateEverything();
+                }
+                backoff = 500;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        EntityChange change = parse(notification.getParameter());
+                        if (change != null && !nodeId().equals(change.origin())) {
+                            deliver(change);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                logger.warn("Invalidation listener connection failed, retrying in {}ms: {}", backoff, e.getMessage());
+                reconnecting = true;
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+        logger.info("Invalidation listener stopped");
+    }
+
+    private void invalidateEverything() {
+        deliver(new EntityChange(EntityChange.USER, null, "RESYNC", null, null, null));
+        deliver(new EntityChange(EntityChange.COURSE, null, "RESYNC", null, null, null));
+    }
+
+    private static EntityChange parse(String payload) {
+        String[] parts = payload.split("\\|", 6);
+        if (parts.length != 6) {
+            logger.warn("Ignoring malformed invalidation payload: {}", payload);
+            return null;
+        }
+        Long id = parts[1].isEmpty() ? null : Long.valueOf(parts[1]);
+        return new EntityChange(parts[0], id, parts[2], parts[3].isEmpty() ? null : parts[3],
+                parts[5].isEmpty() ? null : parts[5], parts[4]);
+    }
+}
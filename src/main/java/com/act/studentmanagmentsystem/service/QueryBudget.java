@@ -0,0 +1,19 @@
+package com.act.studentmanagmentsystem.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements Hibernate may issue while a controller method handles one request. Set it
+ * to what the endpoint needs for any amount of data, so that a query per row (N+1) goes over it as soon as
+ * there is more than a handful of rows. {@link QueryBudgetFilter} checks it.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int value();
+}
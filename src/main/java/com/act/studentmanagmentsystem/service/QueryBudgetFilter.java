@@ -0,0 +1,92 @@
+package com.act.studentmanagmentsystem.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the Hibernate statements of each request with {@link QueryCounter} and compares them with the
+ * {@link QueryBudget} of the controller method that handled it, or {@code app.query-budget.default-limit} for
+ * methods without one (0 = unchecked). Every mapped request records its count in
+ * {@code http.server.requests.queries}; a request over budget is logged and counted in
+ * {@code query.budget.exceeded}, both tagged with the endpoint, and fails with an {@link IllegalStateException}
+ * when {@code app.query-budget.fail-on-exceed} is set, as it is in tests.
+ * <p>
+ * With {@code app.query-budget.expose-header} the count so far is sent in {@value #HEADER} when the response is
+ * committed; statements run after that, e.g. lazy loads during serialization, only show up in the metrics.
+ */
+public class QueryBudgetFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    public static final String HEADER = "X-SQL-Query-Count";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeader;
+    private final boolean failOnExceed;
+    private final int defaultLimit;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry, boolean exposeHeader, boolean failOnExceed, int defaultLimit) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeader = exposeHeader;
+        this.failOnExceed = failOnExceed;
+        this.defaultLimit = defaultLimit;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        int queries;
+        try {
+            chain.doFilter(request, exposeHeader ? new CountHeaderResponse(response) : response);
+            if (exposeHeader && !response.isCommitted()) {
+                response.setHeader(HEADER, Integer.toString(QueryCounter.current()));
+            }
+        } finally {
+            queries = QueryCounter.stop();
+        }
+        check(request, queries);
+    }
+
+    private void check(HttpServletRequest request, int queries) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        String endpoint = request.getMethod() + " " + pattern;
+        meterRegistry.summary("http.server.requests.queries", "endpoint", endpoint).record(queries);
+
+        QueryBudget budget = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod method
+                ? method.getMethodAnnotation(QueryBudget.class) : null;
+        int limit = budget != null ? budget.value() : defaultLimit;
+        if (limit <= 0 || queries <= limit) {
+            return;
+        }
+        meterRegistry.counter("query.budget.exceeded", "endpoint", endpoint).increment();
+        logger.warn("{} ran {} SQL statements, its budget is {}", endpoint, queries, limit);
+        if (failOnExceed) {
+            throw new IllegalStateException(endpoint + " ran " + queries + " SQL statements, its budget is " + limit);
+        }
+    }
+
+    private static final class CountHeaderResponse extends OnCommittedResponseWrapper {
+        private CountHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            ((HttpServletResponse) getResponse()).setHeader(HEADER, Integer.toString(QueryCounter.current()));
+        }
+    }
+}
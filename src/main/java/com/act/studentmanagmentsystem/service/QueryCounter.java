@@ -0,0 +1,38 @@
+package com.act.studentmanagmentsystem.service;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and
+ * {@link #stop()}. Registered as Hibernate's statement inspector; statements on threads that are not counting
+ * pass through untouched. JdbcTemplate and R2DBC statements do not go through Hibernate and are not counted.
+ */
+public class QueryCounter implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /** Statements counted so far on this thread, 0 if it is not counting. */
+    public static int current() {
+        int[] count = COUNT.get();
+        return count != null ? count[0] : 0;
+    }
+
+    /** Stops counting on this thread and returns the total. */
+    public static int stop() {
+        int total = current();
+        COUNT.remove();
+        return total;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,461 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.ReportJob;
+import com.act.studentmanagmentsystem.entity.Role;
+import com.act.studentmanagmentsystem.repository.CourseRepository;
+import com.act.studentmanagmentsystem.repository.ReportJobRepository;
+import com.act.studentmanagmentsystem.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates campus-wide rosters, transcripts and timetables as CSV files in the background. Jobs are rows in
+ * {@code report_jobs}; they run on a fixed pool of {@code app.reports.workers} threads behind a queue of
+ * {@code app.reports.queue-capacity}, so a burst of requests cannot take more connections than that. Each job
+ * streams one ordered query through a server-side cursor into a file channel, publishing its progress about once
+ * a second, and renames the file into place only once it is complete.
+ * <p>
+ * Every node touches the jobs it holds on each recovery pass, so a job that has not been touched for
+ * {@code app.reports.stale-after-minutes}, e.g. because its node restarted, is queued again; the recovery interval
+ * must be shorter than that. Finished jobs and their files are removed after {@code app.reports.retention-days}.
+ * Files live under {@code app.reports.directory}, which must be shared storage when several nodes serve downloads.
+ */
+@Service
+public class ReportJobService {
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobService.class);
+
+    private static final long PROGRESS_INTERVAL_MS = 1000;
+
+    private static final String ROSTERS_SQL = """
+            SELECT c.id AS course_id, c.name AS course_name, c.term, c.instructor, c.status AS course_status,
+                   u.id AS student_id, u.first_name, u.last_name, u.email, g.grade
+            FROM courses c
+            LEFT JOIN user_courses uc ON uc.course_id = c.id AND uc.term = c.term
+            LEFT JOIN users u ON u.id = uc.user_id
+            LEFT JOIN enrollment_grades g ON g.student_id = uc.user_id AND g.course_id = c.id AND g.term = c.term
+            WHERE c.tenant_id = :tenant %s
+            ORDER BY c.id, u.last_name, u.first_name, u.id
+            """;
+
+    private static final String TRANSCRIPTS_SQL = """
+            SELECT u.id AS student_id, u.first_name, u.last_name, u.email, u.gpa,
+                   uc.term, c.id AS course_id, c.name AS course_name, c.instructor, g.grade
+            FROM users u
+            LEFT JOIN user_courses uc ON uc.user_id = u.id %s
+            LEFT JOIN courses c ON c.id = uc.course_id
+            LEFT JOIN enrollment_grades g ON g.student_id = u.id AND g.course_id = uc.course_id AND g.term = uc.term
+            WHERE u.tenant_id = :tenant AND u.role = 'STUDENT'
+            ORDER BY u.id, uc.term, c.name
+            """;
+
+    private static final String TIMETABLES_SQL = """
+            SELECT u.id AS student_id, u.first_name, u.last_name, u.email, uc.term,
+                   m.day_of_week, m.start_time, m.end_time, c.id AS course_id, c.name AS course_name, c.instructor
+            FROM users u
+            LEFT JOIN user_courses uc ON uc.user_id = u.id %s
+            LEFT JOIN courses c ON c.id = uc.course_id
+            LEFT JOIN course_meetings m ON m.course_id = c.id
+            WHERE u.tenant_id = :tenant AND u.role = 'STUDENT'
+            ORDER BY u.id, uc.term,
+                     array_position(ARRAY['MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY'],
+                                    m.day_of_week::text),
+                     m.start_time
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate progressTransaction;
+    private final ReportJobRepository jobRepository;
+    private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final AuditLogService auditLogService;
+    private final MeterRegistry meterRegistry;
+    private final Path directory;
+    private final int retentionDays;
+    private final long staleAfterMinutes;
+    private final ThreadPoolExecutor workers;
+    // Jobs in this node's queue or running on its workers
+    private final Set<Long> owned = ConcurrentHashMap.newKeySet();
+
+    public ReportJobService(DataSource dataSource, NamedParameterJdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager, ReportJobRepository jobRepository,
+                            CourseRepository courseRepository, UserRepository userRepository,
+                            AuditLogService auditLogService, MeterRegistry meterRegistry,
+                            @Value("${app.reports.directory:reports}") String directory,
+                            @Value("${app.reports.workers:2}") int workers,
+                            @Value("${app.reports.queue-capacity:20}") int queueCapacity,
+                            @Value("${app.reports.fetch-size:1000}") int fetchSize,
+                            @Value("${app.reports.retention-days:7}") int retentionDays,
+                            @Value("${app.reports.stale-after-minutes:15}") long staleAfterMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        JdbcTemplate cursor = new JdbcTemplate(dataSource);
+        cursor.setFetchSize(fetchSize);
+        this.cursorJdbcTemplate = new NamedParameterJdbcTemplate(cursor);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Progress is written from inside the read-only cursor transaction, so it needs its own
+        this.progressTransaction = new TransactionTemplate(transactionManager);
+        this.progressTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.jobRepository = jobRepository;
+        this.courseRepository = courseRepository;
+        this.userRepository = userRepository;
+        this.auditLogService = auditLogService;
+        this.meterRegistry = meterRegistry;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.retentionDays = retentionDays;
+        this.staleAfterMinutes = staleAfterMinutes;
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread thread = new Thread(r, "report-worker-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("reports.queue.size", this.workers, executor -> executor.getQueue().size()).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Queues a report for the current tenant, optionally limited to one academic term. Returns the job, or
+     * {@code null} if the queue is full.
+     */
+    public ReportJob submit(ReportJob.Type type, String term, String actor) {
+        LocalDateTime now = LocalDateTime.now();
+        ReportJob job = new ReportJob();
+        job.setType(type);
+        job.setTerm(term);
+        job.setStatus(ReportJob.Status.QUEUED);
+        job.setRequestedBy(actor);
+        job.setTotalItems(type == ReportJob.Type.ROSTERS
+                ? (term != null ? courseRepository.countByTerm(term) : courseRepository.count())
+                : userRepository.countByRole(Role.STUDENT));
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        ReportJob saved = jobRepository.save(job);
+        // The executor is the only authority on free capacity; a rejected job is removed again
+        if (!enqueue(saved.getId(), saved.getTenantId())) {
+            logger.warn("Report {} requested by {} rejected, the queue is full", type, actor);
+            jobRepository.delete(saved);
+            return null;
+        }
+        logger.info("Queued {} report {} ({} items) for {}", type, saved.getId(), saved.getTotalItems(), actor);
+        return saved;
+    }
+
+    /** Status and progress of {@code job} for API responses. */
+    public Map<String, Object> describe(ReportJob job) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("id", job.getId());
+        description.put("type", job.getType());
+        description.put("term", job.getTerm());
+        description.put("status", job.getStatus());
+        description.put("requestedBy", job.getRequestedBy());
+        description.put("totalItems", job.getTotalItems());
+        description.put("processedItems", job.getProcessedItems());
+        description.put("percent", job.getStatus() == ReportJob.Status.COMPLETED || job.getTotalItems() == 0 ? 100.0
+                : Math.min(100.0, Math.round(job.getProcessedItems() * 1000.0 / job.getTotalItems()) / 10.0));
+        description.put("rows", job.getRowCount());
+        description.put("fileSize", job.getFileSize());
+        description.put("createdAt", job.getCreatedAt());
+        description.put("startedAt", job.getStartedAt());
+        description.put("finishedAt", job.getFinishedAt());
+        description.put("error", job.getError());
+        if (job.getStatus() == ReportJob.Status.COMPLETED) {
+            description.put("download", "/api/admin/reports/" + job.getId() + "/download");
+        }
+        return description;
+    }
+
+    /** The file of a completed job, or {@code null} if it has none or it was removed. */
+    public Path file(ReportJob job) {
+        if (job.getStatus() != ReportJob.Status.COMPLETED || job.getFileName() == null) {
+            return null;
+        }
+        Path file = directory.resolve(job.getFileName()).normalize();
+        return file.startsWith(directory) && Files.isReadable(file) ? file : null;
+    }
+
+    /**
+     * Touches the jobs this node holds, queued or running, then re-queues jobs nobody has touched for
+     * {@code app.reports.stale-after-minutes}: running jobs whose node stopped, and queued jobs no live node
+     * holds. A job still waiting in a live node's queue is never taken over; the claim in generate() keeps a job
+     * from running twice.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.recovery-interval-ms:300000}")
+    public void resumeInterrupted() {
+        try {
+            long[] held = owned.stream().mapToLong(Long::longValue).toArray();
+            if (held.length > 0) {
+                jdbcTemplate.update("""
+                        UPDATE report_jobs SET updated_at = now()
+                        WHERE id = ANY(:ids) AND status IN ('QUEUED', 'RUNNING')
+                        """, new MapSqlParameterSource("ids", held));
+            }
+            List<Map<String, Object>> jobs = jdbcTemplate.queryForList("""
+                    UPDATE report_jobs SET status = 'QUEUED', updated_at = now()
+                    WHERE status IN ('QUEUED', 'RUNNING') AND updated_at < :staleBefore AND id <> ALL(:held)
+                    RETURNING id, tenant_id
+                    """, new MapSqlParameterSource("staleBefore", LocalDateTime.now().minusMinutes(staleAfterMinutes))
+                    .addValue("held", held));
+            for (Map<String, Object> job : jobs) {
+                long id = ((Number) job.get("id")).longValue();
+                String tenant = (String) job.get("tenant_id");
+                if (enqueue(id, tenant)) {
+                    logger.info("Re-queued interrupted report {} of tenant {}", id, tenant);
+                } else {
+                    logger.warn("Queue full, report {} will be retried on the next recovery pass", id);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Failed to re-queue interrupted reports", e);
+        }
+    }
+
+    // Hands a job to the workers and marks it as held by this node until it finishes
+    private boolean enqueue(long jobId, String tenant) {
+        owned.add(jobId);
+        try {
+            workers.execute(() -> {
+                try {
+                    generate(jobId, tenant);
+                } finally {
+                    owned.remove(jobId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            owned.remove(jobId);
+            return false;
+        }
+    }
+
+    @Scheduled(cron = "${app.reports.purge-cron:0 45 3 * * *}")
+    public void purgeExpired() {
+        try {
+            List<String> files = jdbcTemplate.queryForList(
+                    "DELETE FROM report_jobs WHERE finished_at < :cutoff RETURNING file_name",
+                    new MapSqlParameterSource("cutoff", LocalDateTime.now().minusDays(retentionDays)), String.class);
+            files.stream().filter(Objects::nonNull).forEach(name -> deleteQuietly(directory.resolve(name)));
+            if (!files.isEmpty()) {
+                logger.info("Purged {} reports older than {} days", files.size(), retentionDays);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to purge expired reports", e);
+        }
+    }
+
+    private void generate(long jobId, String tenant) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", jobId);
+        ReportJob.Type type = null;
+        Path part = null;
+        TenantContext.set(tenant);
+        try {
+            List<Map<String, Object>> claimed = jdbcTemplate.queryForList("""
+                    UPDATE report_jobs SET status = 'RUNNING', started_at = now(), updated_at = now(),
+                                           processed_items = 0, row_count = 0, error = NULL
+                    WHERE id = :id AND status = 'QUEUED'
+                    RETURNING type, term, requested_by
+                    """, params);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            type = ReportJob.Type.valueOf((String) claimed.get(0).get("type"));
+            String term = (String) claimed.get(0).get("term");
+            String actor = (String) claimed.get(0).get("requested_by");
+            long started = System.currentTimeMillis();
+
+            String fileName = tenant + "/" + type.name().toLowerCase(Locale.ROOT) + "-" + jobId + ".csv";
+            Path target = directory.resolve(fileName);
+            Files.createDirectories(target.getParent());
+            part = target.resolveSibling(target.getFileName() + ".part");
+            Progress progress = write(jobId, type, tenant, term, part);
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            jdbcTemplate.update("""
+                    UPDATE report_jobs SET status = 'COMPLETED', file_name = :file, file_size = :size,
+                                           row_count = :rows, processed_items = :items,
+                                           finished_at = now(), updated_at = now()
+                    WHERE id = :id AND status = 'RUNNING'
+                    """, params
+                    .addValue("file", fileName)
+                    .addValue("size", Files.size(target))
+                    .addValue("rows", progress.rows)
+                    .addValue("items", progress.items));
+            auditLogService.record(actor, "REPORT_GENERATED", "REPORT_JOB", jobId,
+                    term != null ? type.name() + " " + term : type.name());
+            meterRegistry.counter("reports.jobs", "type", type.name(), "outcome", "completed").increment();
+            logger.info("{} report {} finished in {}ms: {} items, {} rows", type, jobId,
+                    System.currentTimeMillis() - started, progress.items, progress.rows);
+        } catch (Exception e) {
+            logger.error("Report {} failed", jobId, e);
+            if (part != null) {
+                deleteQuietly(part);
+            }
+            String message = String.valueOf(e.getMessage());
+            jdbcTemplate.update("""
+                    UPDATE report_jobs SET status = 'FAILED', error = :error, finished_at = now(), updated_at = now()
+                    WHERE id = :id AND status = 'RUNNING'
+                    """, params.addValue("error", message.length() > 1000 ? message.substring(0, 1000) : message));
+            meterRegistry.counter("reports.jobs", "type", type != null ? type.name() : "UNKNOWN", "outcome", "failed").increment();
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private Progress write(long jobId, ReportJob.Type type, String tenant, String term, Path file) throws IOException {
+        String enrollmentTerm = term != null ? "AND uc.term = :term" : "";
+        String sql = switch (type) {
+            case ROSTERS -> ROSTERS_SQL.formatted(term != null ? "AND c.term = :term" : "");
+            case TRANSCRIPTS -> TRANSCRIPTS_SQL.formatted(enrollmentTerm);
+            case TIMETABLES -> TIMETABLES_SQL.formatted(enrollmentTerm);
+        };
+        MapSqlParameterSource params = new MapSqlParameterSource("tenant", tenant).addValue("term", term);
+        Progress progress = new Progress(jobId);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+             Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), 64 * 1024)) {
+            readOnlyTransaction.executeWithoutResult(tx ->
+                    cursorJdbcTemplate.query(sql, params, (ResultSetExtractor<Void>) rs -> {
+                        try {
+                            writeCsv(rs, writer, progress);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        return null;
+                    }));
+            writer.flush();
+            channel.force(false);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return progress;
+    }
+
+    // Rows are ordered by the item they belong to (first column), so a change of that value completes an item
+    private void writeCsv(ResultSet rs, Writer writer, Progress progress) throws SQLException, IOException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int columns = meta.getColumnCount();
+        for (int i = 1; i <= columns; i++) {
+            if (i > 1) {
+                writer.write(',');
+            }
+            writer.write(meta.getColumnLabel(i));
+        }
+        writer.write('\n');
+
+        long lastItem = Long.MIN_VALUE;
+        while (rs.next()) {
+            long item = rs.getLong(1);
+            if (item != lastItem) {
+                lastItem = item;
+                progress.items++;
+            }
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                writeField(writer, rs.getString(i));
+            }
+            writer.write('\n');
+            progress.rows++;
+            progress.maybePublish();
+        }
+    }
+
+    private static void writeField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete report file {}", file, e);
+        }
+    }
+
+    private final class Progress {
+        private final long jobId;
+        private long items;
+        private long rows;
+        private long publishedAt = System.currentTimeMillis();
+
+        private Progress(long jobId) {
+            this.jobId = jobId;
+        }
+
+        void maybePublish() {
+            long now = System.currentTimeMillis();
+            if (now - publishedAt < PROGRESS_INTERVAL_MS) {
+                return;
+            }
+            publishedAt = now;
+            progressTransaction.executeWithoutResult(tx -> jdbcTemplate.update("""
+                    UPDATE report_jobs SET processed_items = :items, row_count = :rows, updated_at = now()
+                    WHERE id = :id AND status = 'RUNNING'
+                    """, new MapSqlParameterSource("id", jobId).addValue("items", items).addValue("rows", rows)));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.act.studentmanagmentsystem.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical reads: the first caller for a key computes the result on its own thread and
+ * every caller that arrives while it runs waits for that result instead of repeating the work. Nothing is cached
+ * once the computation finishes.
+ * <p>
+ * Waiting is bounded per call; a caller whose timeout expires stops waiting and computes the value itself.
+ * Outcomes are counted in {@code singleflight.calls} tagged with the key and {@code leader}, {@code coalesced}
+ * or {@code timeout}.
+ */
+@Service
+public class SingleFlight {
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Duration timeout, Supplier<T> supplier) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, mine);
+        if (leader == null) {
+            counter(key, "leader").increment();
+            try {
+                T result = supplier.get();
+                mine.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        try {
+            T result = (T) leader.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            counter(key, "coalesced").increment();
+            return result;
+        } catch (TimeoutException e) {
+            counter(key, "timeout").increment();
+            logger.warn("Gave up waiting {}ms for in-flight '{}', computing it separately", timeout.toMillis(), key);
+            return supplier.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for '" + key + "'", e);
+        } catch (ExecutionException e) {
+            counter(key, "coalesced").increment();
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Counter counter(String key, String result) {
+        return meterRegistry.counter("singleflight.calls", "key", key, "result", result);
+    }
+}
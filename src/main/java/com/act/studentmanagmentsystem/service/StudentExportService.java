@@ -0,0 +1,241 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.Role;
+import com.act.studentmanagmentsystem.entity.UserStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the admin student list to CSV or NDJSON. Rows are read through a server-side cursor
+ * (read-only transaction plus a JDBC fetch size) and written one at a time, so memory use does not
+ * depend on the number of students exported.
+ */
+@Service
+public class StudentExportService {
+    private static final Logger logger = LoggerFactory.getLogger(StudentExportService.class);
+
+    private static final String[] CSV_HEADER = {
+            "id", "firstName", "lastName", "email", "phone", "gpa", "status", "createdAt", "courses"};
+
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+
+    public StudentExportService(DataSource dataSource, PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                @Value("${export.fetch-size:1000}") int fetchSize) {
+        this.cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        this.cursorJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public enum Format { CSV, NDJSON }
+
+    public void export(String tenant, String search, UserStatus status, Double minGpa, Double maxGpa, Long courseId,
+                       Format format, boolean gzip, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT u.id, u.first_name, u.last_name, u.email, u.phone, u.gpa, u.status, u.created_at,
+                       (SELECT array_agg(c.name ORDER BY c.name)
+                        FROM user_courses uc JOIN courses c ON c.id = uc.course_id
+                        WHERE uc.user_id = u.id) AS courses
+                FROM users u
+                WHERE u.tenant_id = ? AND u.role = ?
+                """);
+        List<Object> args = new ArrayList<>();
+        args.add(tenant);
+        args.add(Role.STUDENT.name());
+        if (search != null && !search.isEmpty()) {
+            String pattern = "%" + search.toLowerCase() + "%";
+            sql.append(" AND (lower(u.first_name) LIKE ? OR lower(u.last_name) LIKE ? OR lower(u.email) LIKE ?)");
+            args.add(pattern);
+            args.add(pattern);
+            args.add(pattern);
+        }
+        if (status != null) {
+            sql.append(" AND u.status = ?");
+            args.add(status.name());
+        }
+        if (minGpa != null) {
+            sql.append(" AND u.gpa >= ?");
+            args.add(minGpa);
+        }
+        if (maxGpa != null) {
+            sql.append(" AND u.gpa <= ?");
+            args.add(maxGpa);
+        }
+        if (courseId != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM user_courses uc WHERE uc.user_id = u.id AND uc.course_id = ?)");
+            args.add(courseId);
+        }
+        sql.append(" ORDER BY u.id");
+
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+        RowWriter rowWriter = format == Format.NDJSON ? new NdjsonRowWriter(writer) : new CsvRowWriter(writer);
+        long[] rows = new long[1];
+        try {
+            rowWriter.start();
+            readOnlyTransaction.executeWithoutResult(tx -> cursorJdbcTemplate.query(sql.toString(), rs -> {
+                try {
+                    rowWriter.write(rs);
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, args.toArray()));
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            writer.close();
+        }
+        logger.info("Exported {} students as {}{}", rows[0], format, gzip ? " (gzip)" : "");
+    }
+
+    private interface RowWriter {
+        void start() throws IOException;
+
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+
+    // Course names are read as an array, since any separator could also appear in a name
+    private static String[] courses(ResultSet rs) throws SQLException {
+        Array array = rs.getArray("courses");
+        if (array == null) {
+            return new String[0];
+        }
+        try {
+            return (String[]) array.getArray();
+        } finally {
+            array.free();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            writer.write(Long.toString(rs.getLong("id")));
+            writeField(rs.getString("first_name"));
+            writeField(rs.getString("last_name"));
+            writeField(rs.getString("email"));
+            writeField(rs.getString("phone"));
+            writeField(rs.getString("gpa"));
+            writeField(rs.getString("status"));
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            writeField(createdAt != null ? createdAt.toLocalDateTime().toString() : null);
+            // The course list is itself a ';'-separated record with the same quoting, then escaped as one cell
+            StringBuilder courses = new StringBuilder();
+            for (String course : courses(rs)) {
+                if (!courses.isEmpty()) {
+                    courses.append(';');
+                }
+                escape(courses, course, ';');
+            }
+            writeField(courses.toString());
+            writer.write('\n');
+        }
+
+        private void writeField(String value) throws IOException {
+            writer.write(',');
+            if (value != null) {
+                escape(writer, value, ',');
+            }
+        }
+
+        private static void escape(Appendable out, String value, char separator) throws IOException {
+            if (value.indexOf(separator) < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                out.append(value);
+                return;
+            }
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    out.append('"');
+                }
+                out.append(c);
+            }
+            out.append('"');
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            generator = objectMapper.getFactory().createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            generator.setRootValueSeparator(null); // records are separated by our own newlines
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", rs.getLong("id"));
+            generator.writeStringField("firstName", rs.getString("first_name"));
+            generator.writeStringField("lastName", rs.getString("last_name"));
+            generator.writeStringField("email", rs.getString("email"));
+            generator.writeStringField("phone", rs.getString("phone"));
+            double gpa = rs.getDouble("gpa");
+            if (rs.wasNull()) {
+                generator.writeNullField("gpa");
+            } else {
+                generator.writeNumberField("gpa", gpa);
+            }
+            generator.writeStringField("status", rs.getString("status"));
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            generator.writeStringField("createdAt", createdAt != null ? createdAt.toLocalDateTime().toString() : null);
+            generator.writeArrayFieldStart("courses");
+            for (String course : courses(rs)) {
+                generator.writeString(course);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.act.studentmanagmentsystem.service;
+
+import java.util.regex.Pattern;
+
+/**
+ * Tenant (campus) of the current request thread. Set by {@link JwtAuthenticationFilter} from the token's
+ * {@code tenant} claim, or from the {@code X-Tenant-Id} header on anonymous requests, and read by Hibernate
+ * through {@code TenantIdentifierResolver} to scope every entity query. Threads that never set it, such as
+ * scheduled jobs, work in {@link #DEFAULT_TENANT}.
+ */
+public final class TenantContext {
+    public static final String DEFAULT_TENANT = "default";
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+
+    private static final Pattern VALID = Pattern.compile("[a-z0-9][a-z0-9-]{0,31}");
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String current() {
+        String tenant = CURRENT.get();
+        return tenant != null ? tenant : DEFAULT_TENANT;
+    }
+
+    public static void set(String tenant) {
+        if (!isValid(tenant)) {
+            throw new IllegalArgumentException("Invalid tenant: " + tenant);
+        }
+        CURRENT.set(tenant);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isValid(String tenant) {
+        return tenant != null && VALID.matcher(tenant).matches();
+    }
+}
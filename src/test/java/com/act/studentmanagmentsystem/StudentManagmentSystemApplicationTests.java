@@ -1,13 +1,33 @@
 package com.act.studentmanagmentsystem;
 
+import com.act.studentmanagmentsystem.config.StartupReport;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"app.invalidation.bus=memory", "app.query-budget.fail-on-exceed=true"})
 class StudentManagmentSystemApplicationTests {
 
+	@Autowired
+	private StartupReport startupReport;
+
+	@Value("${app.startup.test-budget-ms:30000}")
+	private long startupBudgetMs;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void startsWithinBudgetAndReportsMemory() {
+		assertTrue(startupReport.getReadyMillis() > 0, "startup time was not recorded");
+		assertTrue(startupReport.getReadyMillis() < startupBudgetMs,
+				"context took " + startupReport.getReadyMillis() + " ms, budget is " + startupBudgetMs + " ms");
+		assertNotEquals(0, startupReport.getRssBytes());
+	}
+
 }
@@ -0,0 +1,172 @@
+package com.act.studentmanagmentsystem.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routes transactions over two stand-in DataSources that record which one handed out each physical connection,
+ * once through plain JDBC transactions and once through Hibernate with an EntityManager held open for the whole
+ * request, as open-in-view does.
+ */
+class ReadWriteRoutingDataSourceTests {
+
+    private final List<String> acquired = new ArrayList<>();
+    private LazyConnectionDataSourceProxy dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(Duration.ofSeconds(5));
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, recording(ReadWriteRoutingDataSource.PRIMARY),
+                ReadWriteRoutingDataSource.REPLICA, recording(ReadWriteRoutingDataSource.REPLICA)));
+        routing.afterPropertiesSet();
+        dataSource = new LazyConnectionDataSourceProxy(routing);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplicaUntilTheCallerWrites() {
+        authenticate("student@example.com");
+        DataSourceTransactionManager transactions = new DataSourceTransactionManager(dataSource);
+
+        run(transactions, true, () -> touch(DataSourceUtils.getConnection(dataSource)));
+        run(transactions, false, () -> touch(DataSourceUtils.getConnection(dataSource)));
+        run(transactions, true, () -> touch(DataSourceUtils.getConnection(dataSource)));
+        authenticate("other@example.com");
+        run(transactions, true, () -> touch(DataSourceUtils.getConnection(dataSource)));
+
+        assertEquals(List.of("replica", "primary", "primary", "replica"), acquired);
+    }
+
+    @Test
+    void enrollmentChecksReadThePrimary() {
+        authenticate("student@example.com");
+        DataSourceTransactionManager transactions = new DataSourceTransactionManager(dataSource);
+
+        // POST /api/course/enroll: student lookup, duplicate check and seat count, each read-only, then the insert
+        request("POST", "/api/course/enroll");
+        for (int i = 0; i < 3; i++) {
+            run(transactions, true, () -> touch(DataSourceUtils.getConnection(dataSource)));
+        }
+        run(transactions, false, () -> touch(DataSourceUtils.getConnection(dataSource)));
+        // The catalog of another caller is still served by the replica
+        authenticate("other@example.com");
+        request("GET", "/api/course");
+        run(transactions, true, () -> touch(DataSourceUtils.getConnection(dataSource)));
+
+        assertEquals(List.of("primary", "primary", "primary", "primary", "replica"), acquired);
+    }
+
+    @Test
+    void statementsOutsideATransactionUseThePrimaryWithoutOpeningTheWindow() throws Exception {
+        authenticate("student@example.com");
+        try (Connection connection = dataSource.getConnection()) {
+            touch(connection);
+        }
+        run(new DataSourceTransactionManager(dataSource), true, () -> touch(DataSourceUtils.getConnection(dataSource)));
+
+        assertEquals(List.of("primary", "replica"), acquired);
+    }
+
+    @Test
+    void writesAfterAReadOnlyLookupInTheSameRequestGoToThePrimary() {
+        authenticate("student@example.com");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
+        properties.put("hibernate.boot.allow_jdbc_metadata_access", "false");
+        new ReplicaDataSourceConfig().releaseConnectionAfterTransaction().customize(properties);
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(ReadWriteRoutingDataSourceTests.class.getPackageName() + ".none");
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory factory = factoryBean.getObject();
+
+        // What OpenEntityManagerInViewInterceptor does for every request
+        EntityManager entityManager = factory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(factory, new EntityManagerHolder(entityManager));
+        try {
+            JpaTransactionManager transactions = new JpaTransactionManager(factory);
+            Session session = entityManager.unwrap(Session.class);
+            run(transactions, true, () -> session.doWork(ReadWriteRoutingDataSourceTests::touch));
+            run(transactions, false, () -> session.doWork(ReadWriteRoutingDataSourceTests::touch));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(factory);
+            entityManager.close();
+            factoryBean.destroy();
+        }
+
+        assertEquals(List.of("replica", "primary"), acquired);
+    }
+
+    private DataSource recording(String name) throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> {
+            acquired.add(name);
+            return mock(Connection.class);
+        });
+        return target;
+    }
+
+    private static void run(PlatformTransactionManager transactionManager, boolean readOnly, Runnable work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.executeWithoutResult(status -> work.run());
+    }
+
+    // The lazy proxy only fetches a physical connection once a statement is created
+    private static void touch(Connection connection) {
+        try {
+            connection.createStatement();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void request(String method, String uri) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(method, uri)));
+    }
+
+    private static void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
@@ -0,0 +1,153 @@
+package com.act.studentmanagmentsystem.controller;
+
+import com.act.studentmanagmentsystem.config.CacheConfig;
+import com.act.studentmanagmentsystem.entity.AcademicTerm;
+import com.act.studentmanagmentsystem.entity.Course;
+import com.act.studentmanagmentsystem.entity.Role;
+import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.repository.CourseRepository;
+import com.act.studentmanagmentsystem.repository.UserRepository;
+import com.act.studentmanagmentsystem.service.JwtUtil;
+import com.act.studentmanagmentsystem.service.QueryBudgetFilter;
+import com.act.studentmanagmentsystem.service.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statements per request, as counted by {@code QueryCounter} and sent in {@value QueryBudgetFilter#HEADER},
+ * for the endpoints that used to load enrollments one entity at a time. Each test runs the request against a
+ * small and a larger data set in its own tenant; the count must be the same for both.
+ */
+@SpringBootTest(properties = {"app.invalidation.bus=memory", "app.query-budget.fail-on-exceed=true",
+        "app.query-budget.expose-header=true", "app.warmup.enabled=false"})
+@AutoConfigureMockMvc
+class EnrollmentQueryCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final String tenant = "qc-" + UUID.randomUUID().toString().substring(0, 8);
+    private final List<Course> courses = new ArrayList<>();
+    private String adminToken;
+
+    @BeforeEach
+    void createAdmin() {
+        User admin = save(user("admin", Role.ADMIN));
+        adminToken = JwtUtil.BEARER_PREFIX + jwtUtil.generateToken(admin.getEmail(), Role.ADMIN.name(), tenant);
+    }
+
+    @AfterEach
+    void deleteTenant() {
+        jdbcTemplate.update("DELETE FROM user_courses WHERE user_id IN (SELECT id FROM users WHERE tenant_id = ?)", tenant);
+        jdbcTemplate.update("DELETE FROM users WHERE tenant_id = ?", tenant);
+        jdbcTemplate.update("DELETE FROM courses WHERE tenant_id = ?", tenant);
+    }
+
+    @Test
+    void courseCatalogRunsOneQueryForAnyNumberOfCoursesAndStudents() throws Exception {
+        seed(2, 3);
+        int small = queries(get("/api/course").header(TenantContext.TENANT_HEADER, tenant));
+        seed(10, 12);
+        int large = queries(get("/api/course").header(TenantContext.TENANT_HEADER, tenant));
+
+        assertEquals(1, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    void studentPageBatchLoadsCoursesForAnyPageSize() throws Exception {
+        seed(3, 30);
+        int small = queries(get("/api/user/students").param("size", "5").header("Authorization", adminToken));
+        int large = queries(get("/api/user/students").param("size", "25").header("Authorization", adminToken));
+
+        // admin lookup, page, count, one batch of enrollments
+        assertEquals(4, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    void studentDetailsLoadCoursesWithTheStudent() throws Exception {
+        List<User> students = seed(5, 1);
+        int queries = queries(get("/api/user/students/" + students.get(0).getId()).header("Authorization", adminToken));
+
+        assertEquals(2, queries);
+    }
+
+    // Adds courseCount courses and studentCount students, each enrolled in every course of the tenant
+    private List<User> seed(int courseCount, int studentCount) {
+        for (int i = 0; i < courseCount; i++) {
+            Course course = new Course();
+            course.setName("Course " + courses.size());
+            course.setTerm(AcademicTerm.current().toString());
+            course.setMaxEnrollment(500);
+            TenantContext.set(tenant);
+            try {
+                courses.add(courseRepository.save(course));
+            } finally {
+                TenantContext.clear();
+            }
+        }
+        List<User> students = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            User student = user("student" + UUID.randomUUID(), Role.STUDENT);
+            student.getCourses().addAll(courses);
+            students.add(save(student));
+        }
+        return students;
+    }
+
+    private User user(String name, Role role) {
+        User user = new User();
+        user.setFirstName(name);
+        user.setLastName(tenant);
+        user.setEmail(name + "@" + tenant + ".example.com");
+        user.setPassword("not-used");
+        user.setRole(role);
+        user.setGpa(3.0);
+        user.setCreatedAt(LocalDateTime.now());
+        return user;
+    }
+
+    private User save(User user) {
+        TenantContext.set(tenant);
+        try {
+            return userRepository.save(user);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private int queries(MockHttpServletRequestBuilder request) throws Exception {
+        cacheManager.getCache(CacheConfig.COURSES_CACHE).clear();
+        MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        return Integer.parseInt(result.getResponse().getHeader(QueryBudgetFilter.HEADER));
+    }
+}
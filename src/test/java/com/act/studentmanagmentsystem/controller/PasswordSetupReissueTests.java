@@ -0,0 +1,91 @@
+package com.act.studentmanagmentsystem.controller;
+
+import com.act.studentmanagmentsystem.entity.Role;
+import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.repository.CourseRepository;
+import com.act.studentmanagmentsystem.repository.EnrollmentViewRepository;
+import com.act.studentmanagmentsystem.repository.UserRepository;
+import com.act.studentmanagmentsystem.service.AuditLogService;
+import com.act.studentmanagmentsystem.service.DashboardStats;
+import com.act.studentmanagmentsystem.service.EnrollmentProjection;
+import com.act.studentmanagmentsystem.service.InvalidationBus;
+import com.act.studentmanagmentsystem.service.NotificationOutbox;
+import com.act.studentmanagmentsystem.service.PasswordSetupService;
+import com.act.studentmanagmentsystem.service.SingleFlight;
+import com.act.studentmanagmentsystem.service.StudentExportService;
+import com.act.studentmanagmentsystem.service.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Calls {@code POST /api/user/admin/{id}/password-setup} as an admin of one campus and checks that a user of
+ * another campus is reported as not found instead of getting a link, even though a load by primary key sees it.
+ */
+class PasswordSetupReissueTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordSetupService passwordSetupService = mock(PasswordSetupService.class);
+    private final UserController controller = new UserController(userRepository, mock(CourseRepository.class),
+            mock(BCryptPasswordEncoder.class), mock(AuditLogService.class), mock(EnrollmentProjection.class),
+            mock(EnrollmentViewRepository.class), mock(DashboardStats.class), mock(StudentExportService.class),
+            mock(InvalidationBus.class), mock(SingleFlight.class), mock(NotificationOutbox.class),
+            passwordSetupService, 2000);
+
+    @BeforeEach
+    void signInAsNorthAdmin() {
+        TenantContext.set("north");
+        when(userRepository.findByEmail("admin@north.example.com")).thenReturn(user(1L, "north", Role.ADMIN));
+        when(userRepository.findByIdInCurrentTenant(anyLong())).thenCallRealMethod();
+        when(passwordSetupService.issue(any())).thenReturn("http://localhost/setup?token=t");
+    }
+
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void userOfAnotherCampusIsNotFound() {
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user(2L, "south", Role.STUDENT)));
+
+        ResponseEntity<?> response = controller.reissuePasswordSetup(2L, "admin@north.example.com");
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(passwordSetupService, never()).issue(any());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void userOfTheSameCampusGetsANewLink() {
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user(3L, "north", Role.STUDENT)));
+
+        ResponseEntity<?> response = controller.reissuePasswordSetup(3L, "admin@north.example.com");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(passwordSetupService).issue(any());
+    }
+
+    private static User user(long id, String tenant, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setTenantId(tenant);
+        user.setEmail("user" + id + "@" + tenant + ".example.com");
+        user.setRole(role);
+        user.setMustChangePassword(true);
+        return user;
+    }
+}
@@ -0,0 +1,150 @@
+package com.act.studentmanagmentsystem.controller;
+
+import com.act.studentmanagmentsystem.config.CacheConfig;
+import com.act.studentmanagmentsystem.entity.AcademicTerm;
+import com.act.studentmanagmentsystem.entity.Course;
+import com.act.studentmanagmentsystem.entity.Role;
+import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.repository.CourseRepository;
+import com.act.studentmanagmentsystem.repository.UserRepository;
+import com.act.studentmanagmentsystem.service.JwtUtil;
+import com.act.studentmanagmentsystem.service.QueryBudgetFilter;
+import com.act.studentmanagmentsystem.service.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Calls every {@code @QueryBudget} endpoint over MockMvc with {@code app.query-budget.fail-on-exceed=true}, so a
+ * handler that goes over its budget fails the request instead of only counting it. The tenant holds more students
+ * and enrollments than any budget allows, so a query per row cannot stay under it by accident.
+ */
+@SpringBootTest(properties = {"app.invalidation.bus=memory", "app.query-budget.fail-on-exceed=true",
+        "app.query-budget.expose-header=true", "app.warmup.enabled=false"})
+@AutoConfigureMockMvc
+class QueryBudgetEndpointTests {
+
+    private static final int COURSES = 4;
+    private static final int STUDENTS = 15;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final String tenant = "qb-" + UUID.randomUUID().toString().substring(0, 8);
+    private final List<Course> courses = new ArrayList<>();
+    private final List<User> students = new ArrayList<>();
+    private String adminToken;
+    private String studentToken;
+
+    @BeforeEach
+    void seed() {
+        User admin = save(user("admin", Role.ADMIN));
+        adminToken = JwtUtil.BEARER_PREFIX + jwtUtil.generateToken(admin.getEmail(), Role.ADMIN.name(), tenant);
+        for (int i = 0; i < COURSES; i++) {
+            Course course = new Course();
+            course.setName("Course " + i);
+            course.setTerm(AcademicTerm.current().toString());
+            course.setMaxEnrollment(500);
+            TenantContext.set(tenant);
+            try {
+                courses.add(courseRepository.save(course));
+            } finally {
+                TenantContext.clear();
+            }
+        }
+        for (int i = 0; i < STUDENTS; i++) {
+            User student = user("student" + i, Role.STUDENT);
+            student.getCourses().addAll(courses);
+            students.add(save(student));
+        }
+        studentToken = JwtUtil.BEARER_PREFIX + jwtUtil.generateToken(students.get(0).getEmail(), Role.STUDENT.name(), tenant);
+    }
+
+    @AfterEach
+    void deleteTenant() {
+        jdbcTemplate.update("DELETE FROM user_courses WHERE user_id IN (SELECT id FROM users WHERE tenant_id = ?)", tenant);
+        jdbcTemplate.update("DELETE FROM users WHERE tenant_id = ?", tenant);
+        jdbcTemplate.update("DELETE FROM courses WHERE tenant_id = ?", tenant);
+    }
+
+    @Test
+    void courseCatalogAndRosterStayWithinTheirBudgets() throws Exception {
+        cacheManager.getCache(CacheConfig.COURSES_CACHE).clear();
+        assertWithinBudget(get("/api/course").header(TenantContext.TENANT_HEADER, tenant), 3);
+        assertWithinBudget(get("/api/course/" + courses.get(0).getId() + "/roster").header("Authorization", adminToken), 4);
+    }
+
+    @Test
+    void studentListAndDetailsStayWithinTheirBudgets() throws Exception {
+        assertWithinBudget(get("/api/user/students").param("size", String.valueOf(STUDENTS))
+                .header("Authorization", adminToken), 6);
+        assertWithinBudget(get("/api/user/students/" + students.get(1).getId()).header("Authorization", adminToken), 3);
+    }
+
+    @Test
+    void statsStayWithinTheirBudgets() throws Exception {
+        assertWithinBudget(get("/api/user/stats").header("Authorization", adminToken), 2);
+        assertWithinBudget(get("/api/user/stats/dashboard").header("Authorization", adminToken), 2);
+    }
+
+    @Test
+    void studentScheduleAndProfileStayWithinTheirBudgets() throws Exception {
+        assertWithinBudget(get("/api/user/schedule").header("Authorization", studentToken), 3);
+        assertWithinBudget(get("/api/user/profile").header("Authorization", studentToken), 3);
+    }
+
+    // An exceeded budget already fails the request; the header check also covers a budget raised by mistake
+    private void assertWithinBudget(MockHttpServletRequestBuilder request, int budget) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        int queries = Integer.parseInt(result.getResponse().getHeader(QueryBudgetFilter.HEADER));
+        assertTrue(queries <= budget, result.getRequest().getRequestURI() + " ran " + queries + " statements, budget " + budget);
+    }
+
+    private User user(String name, Role role) {
+        User user = new User();
+        user.setFirstName(name);
+        user.setLastName(tenant);
+        user.setEmail(name + "@" + tenant + ".example.com");
+        user.setPassword("not-used");
+        user.setRole(role);
+        user.setGpa(3.0);
+        user.setCreatedAt(LocalDateTime.now());
+        return user;
+    }
+
+    private User save(User user) {
+        TenantContext.set(tenant);
+        try {
+            return userRepository.save(user);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.act.studentmanagmentsystem.dto;
+
+import com.act.studentmanagmentsystem.entity.CourseStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Payload size and encode/decode time of the course catalog in JSON, Smile and CBOR, using the same factory
+ * settings as {@code BinaryFormatConfig}. Times are logged for comparison only; the assertions cover size and
+ * that every format decodes to the same tree.
+ */
+class ResponseFormatBenchmarkTests {
+    private static final Logger logger = LoggerFactory.getLogger(ResponseFormatBenchmarkTests.class);
+
+    private static final int COURSES = 500;
+    private static final int ITERATIONS = 200;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper smile = new ObjectMapper(SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build());
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    @Test
+    void binaryFormatsAreSmallerThanJsonAndDecodeToTheSameTree() throws Exception {
+        List<CourseResponse> catalog = catalog();
+        JsonNode expected = json.readTree(json.writeValueAsBytes(catalog));
+
+        int jsonSize = measure("json", json, catalog, expected);
+        int smileSize = measure("smile", smile, catalog, expected);
+        int cborSize = measure("cbor", cbor, catalog, expected);
+
+        assertTrue(smileSize < jsonSize, "smile " + smileSize + " >= json " + jsonSize);
+        assertTrue(cborSize < jsonSize, "cbor " + cborSize + " >= json " + jsonSize);
+    }
+
+    private int measure(String format, ObjectMapper mapper, List<CourseResponse> catalog, JsonNode expected) throws Exception {
+        byte[] payload = mapper.writeValueAsBytes(catalog);
+        assertEquals(expected, mapper.readTree(payload));
+
+        // Warm up before timing so the numbers are not dominated by class loading and JIT
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.readTree(mapper.writeValueAsBytes(catalog));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.writeValueAsBytes(catalog);
+        }
+        long encodeNanos = (System.nanoTime() - start) / ITERATIONS;
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.readTree(payload);
+        }
+        long decodeNanos = (System.nanoTime() - start) / ITERATIONS;
+
+        logger.info("{}: {} bytes, encode {} us, decode {} us", format, payload.length, encodeNanos / 1000, decodeNanos / 1000);
+        return payload.length;
+    }
+
+    private static List<CourseResponse> catalog() {
+        List<CourseResponse> courses = new ArrayList<>();
+        for (long id = 1; id <= COURSES; id++) {
+            List<Long> studentIds = LongStream.rangeClosed(id * 10, id * 10 + id % 40).boxed().toList();
+            courses.add(new CourseResponse(id, "Course " + id, "Description of course " + id,
+                    "Instructor " + (id % 25), 40, CourseStatus.ACTIVE, "2026-FALL", studentIds.size(), studentIds,
+                    List.of(), List.of()));
+        }
+        return courses;
+    }
+}
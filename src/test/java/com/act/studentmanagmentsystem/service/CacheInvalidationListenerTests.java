@@ -0,0 +1,113 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.config.CacheConfig;
+import com.act.studentmanagmentsystem.entity.Role;
+import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.entity.UserStatus;
+import com.act.studentmanagmentsystem.service.GpaRecalculationService.GpaChange;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Delivers changes from another node to {@link CacheInvalidationListener} and checks that the dashboard counters
+ * take the delta without touching the database and that the catalog is evicted only for the affected tenant.
+ */
+class CacheInvalidationListenerTests {
+
+    private final JdbcTemplate statsJdbc = mock(JdbcTemplate.class);
+    private final DashboardStats stats = new DashboardStats(statsJdbc);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.COURSES_CACHE);
+    private final InMemoryInvalidationBus bus = new InMemoryInvalidationBus();
+    private final CacheInvalidationListener listener = new CacheInvalidationListener(cacheManager, stats,
+            new CourseRequirementIndex(mock(JdbcTemplate.class), mock(EntityManagerFactory.class)), bus);
+
+    @Test
+    void userCreatedOnAnotherNodeIsAppliedFromItsDelta() {
+        User student = new User();
+        student.setRole(Role.STUDENT);
+        student.setStatus(UserStatus.ACTIVE);
+        student.setGpa(3.5);
+        student.setCreatedAt(LocalDateTime.now());
+
+        bus.deliver(new EntityChange(EntityChange.USER, 7L, "CREATED", "north", DashboardStats.userCreatedDelta(student), "other-node"));
+        listener.refreshStatsIfStale();
+
+        assertEquals(1, stats.getTotalStudents("north"));
+        assertEquals(3.5, stats.getAverageStudentGpa("north"));
+        assertEquals(0, stats.getTotalStudents("south"));
+        verifyNoInteractions(statsJdbc);
+    }
+
+    @Test
+    void gradesOnAnotherNodeMoveTheGpaDistributionFromTheirDeltas() {
+        stats.applyUserCreated("north", "STUDENT,ACTIVE,2.0,");
+        stats.applyUserCreated("north", "STUDENT,ACTIVE,,");
+        List<GpaChange> changes = new ArrayList<>();
+        changes.add(new GpaChange("ACTIVE", 2.0, 3.0));
+        changes.add(new GpaChange("ACTIVE", null, 4.0));
+        for (int i = 0; i < 1000; i++) {
+            changes.add(new GpaChange("GRADUATED", 3.25, 3.25));
+        }
+
+        List<String> deltas = DashboardStats.gpaChangedDeltas(changes);
+        assertTrue(deltas.size() > 1);
+        for (String delta : deltas) {
+            assertTrue(delta.length() <= DashboardStats.MAX_DELTA_LENGTH);
+            bus.deliver(new EntityChange(EntityChange.USER, null, "GRADED", "north", delta, "other-node"));
+        }
+        listener.refreshStatsIfStale();
+
+        assertEquals(2, stats.getTotalStudents("north"));
+        assertEquals(3.5, stats.getAverageStudentGpa("north"));
+        verifyNoInteractions(statsJdbc);
+    }
+
+    @Test
+    void enrollmentEvictsOnlyTheCatalogOfItsTenant() {
+        Cache courses = cacheManager.getCache(CacheConfig.COURSES_CACHE);
+        courses.put("north", List.of());
+        courses.put("south", List.of());
+
+        bus.deliver(new EntityChange(EntityChange.COURSE, 11L, "ENROLLED", "north", null, "other-node"));
+        listener.refreshStatsIfStale();
+
+        assertNull(courses.get("north"));
+        assertNotNull(courses.get("south"));
+        verifyNoInteractions(statsJdbc);
+    }
+
+    @Test
+    void bulkChangesClearEveryTenantAndReloadTheCountersOnce() {
+        Cache courses = cacheManager.getCache(CacheConfig.COURSES_CACHE);
+        courses.put("north", List.of());
+        courses.put("south", List.of());
+
+        bus.deliver(new EntityChange(EntityChange.COURSE, null, "ARCHIVED", null, null, "other-node"));
+        bus.deliver(new EntityChange(EntityChange.USER, null, "ARCHIVED", null, null, "other-node"));
+        verifyNoInteractions(statsJdbc);
+        listener.refreshStatsIfStale();
+
+        assertNull(courses.get("north"));
+        assertNull(courses.get("south"));
+        verify(statsJdbc, atLeastOnce()).query(anyString(), any(RowCallbackHandler.class));
+    }
+}
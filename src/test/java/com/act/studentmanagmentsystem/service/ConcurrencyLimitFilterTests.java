@@ -0,0 +1,130 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives {@link ConcurrencyLimitFilter} with a filter chain that stands in for a controller blocked on a slow
+ * database, and checks that the affected group sheds load while another group stays responsive.
+ */
+class ConcurrencyLimitFilterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter(new MockEnvironment()
+            .withProperty("app.concurrency.admin-search.max-limit", "8")
+            .withProperty("app.concurrency.admin-search.target-latency-ms", "50"),
+            meterRegistry, true, 0.5);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper());
+
+    @Test
+    void slowDatabaseShrinksTheLimitAndShedsOnlyThatGroup() throws Exception {
+        CountDownLatch databaseStalled = new CountDownLatch(1);
+        FilterChain slowQuery = (request, response) -> {
+            try {
+                databaseStalled.await(5, TimeUnit.SECONDS);
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<Integer>> searches = new ArrayList<>();
+            for (int i = 0; i < 24; i++) {
+                searches.add(pool.submit(() -> call("GET", "/api/user/students", slowQuery)));
+            }
+            waitForInFlight(ConcurrencyLimiter.Group.ADMIN_SEARCH, 8);
+
+            // Logins are a separate group and go straight through while searches are stuck
+            for (int i = 0; i < 20; i++) {
+                assertEquals(200, call("POST", "/api/auth/login", (request, response) -> { }));
+            }
+            waitForRejected("admin-search", 16);
+            databaseStalled.countDown();
+
+            int ok = 0;
+            int shed = 0;
+            for (Future<Integer> search : searches) {
+                int status = search.get(10, TimeUnit.SECONDS);
+                if (status == 503) {
+                    shed++;
+                } else {
+                    ok++;
+                }
+            }
+            assertEquals(8, ok);
+            assertEquals(16, shed);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Every admitted search exceeded the target latency, so the limit backed off to the minimum
+        assertEquals(2, limiter.getLimit(ConcurrencyLimiter.Group.ADMIN_SEARCH).getLimit());
+        assertEquals(40, limiter.getLimit(ConcurrencyLimiter.Group.AUTH).getLimit());
+        assertEquals(16, rejected("admin-search"));
+    }
+
+    @Test
+    void limitRecoversOnceResponsesAreFastAgain() throws Exception {
+        ConcurrencyLimiter.Limit limit = limiter.getLimit(ConcurrencyLimiter.Group.ADMIN_SEARCH);
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire(ConcurrencyLimiter.Group.ADMIN_SEARCH).release(TimeUnit.SECONDS.toNanos(1), false);
+        }
+        assertEquals(2, limit.getLimit());
+
+        // Additive increase: keep the group busy with fast requests
+        for (int round = 0; round < 10; round++) {
+            List<ConcurrencyLimiter.Limit> admitted = new ArrayList<>();
+            ConcurrencyLimiter.Limit acquired;
+            while ((acquired = limiter.tryAcquire(ConcurrencyLimiter.Group.ADMIN_SEARCH)) != null) {
+                admitted.add(acquired);
+            }
+            admitted.forEach(a -> a.release(TimeUnit.MILLISECONDS.toNanos(5), false));
+        }
+        assertEquals(8, limit.getLimit());
+        assertEquals(200, call("GET", "/api/admin/audit", (request, response) -> { }));
+    }
+
+    private int call(String method, String path, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response.getStatus();
+    }
+
+    private void waitForRejected(String group, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (rejected(group) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double rejected(String group) {
+        return meterRegistry.get("concurrency.requests").tags("group", group, "outcome", "rejected").counter().count();
+    }
+
+    private void waitForInFlight(ConcurrencyLimiter.Group group, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (limiter.getLimit(group).getInFlight() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(limiter.getLimit(group).getInFlight() >= expected, "searches did not reach the database stub");
+    }
+}
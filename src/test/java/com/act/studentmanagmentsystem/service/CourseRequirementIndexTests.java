@@ -0,0 +1,193 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.MeetingTime;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Loads {@link CourseRequirementIndex} from a stubbed {@link JdbcTemplate} holding a small catalog and checks
+ * prerequisites, cycle detection, timetable conflicts and single-course refreshes against it.
+ * <pre>
+ *   1 Intro            2025-FALL
+ *   2 Data Structures  2026-SPRING  requires 1
+ *   3 Algorithms       2026-FALL    requires 2
+ *   4 Databases        2026-FALL    MONDAY 09:00-10:15
+ *   5 Networks         2026-FALL    MONDAY 10:15-11:30
+ *   6 Compilers        2026-FALL    MONDAY 10:00-11:00
+ *   7 Statistics       2026-SPRING  MONDAY 09:00-10:15
+ *   8 Seminar          2026-SPRING  requires 2
+ * </pre>
+ */
+class CourseRequirementIndexTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CourseRequirementIndex index = new CourseRequirementIndex(jdbcTemplate, mock(EntityManagerFactory.class));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void loadCatalog() throws Exception {
+        when(jdbcTemplate.query(startsWith("SELECT id, name, term"), any(RowMapper.class))).thenReturn(List.of(
+                new Object[]{1L, "Intro", "2025-FALL"},
+                new Object[]{2L, "Data Structures", "2026-SPRING"},
+                new Object[]{3L, "Algorithms", "2026-FALL"},
+                new Object[]{4L, "Databases", "2026-FALL"},
+                new Object[]{5L, "Networks", "2026-FALL"},
+                new Object[]{6L, "Compilers", "2026-FALL"},
+                new Object[]{7L, "Statistics", "2026-SPRING"},
+                new Object[]{8L, "Seminar", "2026-SPRING"}));
+        rows("SELECT course_id, prerequisite_id", List.of(
+                Map.of("course_id", 2L, "prerequisite_id", 1L),
+                Map.of("course_id", 3L, "prerequisite_id", 2L),
+                Map.of("course_id", 8L, "prerequisite_id", 2L)));
+        rows("SELECT course_id, day_of_week", List.of(
+                meeting(4L, "09:00", "10:15"),
+                meeting(5L, "10:15", "11:30"),
+                meeting(6L, "10:00", "11:00"),
+                meeting(7L, "09:00", "10:15")));
+        index.reload();
+    }
+
+    @Test
+    void prerequisitesMustBeTakenInAnEarlierTerm() {
+        assertNull(index.checkEnrollment(2, new long[]{1}));
+        assertEquals("Missing prerequisites: Intro", index.checkEnrollment(2, new long[0]));
+        // Data Structures runs in the same term as Seminar, so it is not finished yet
+        assertEquals("Missing prerequisites: Data Structures", index.checkEnrollment(8, new long[]{1, 2}));
+    }
+
+    @Test
+    void prerequisitesOfPrerequisitesWereCheckedWhenTheyWereTaken() {
+        // Algorithms needs Data Structures, which needed Intro; only the direct prerequisite is checked again
+        assertNull(index.checkEnrollment(3, new long[]{2}));
+        assertEquals("Missing prerequisites: Data Structures", index.checkEnrollment(3, new long[]{1}));
+        assertEquals(List.of(2L), index.getPrerequisiteIds(3));
+    }
+
+    @Test
+    void cyclesAreFoundThroughTheWholeChain() {
+        assertTrue(index.createsCycle(1, List.of(3L)));
+        assertTrue(index.createsCycle(2, List.of(8L)));
+        assertTrue(index.createsCycle(4, List.of(4L)));
+        assertTrue(index.createsCycle(99, List.of(99L)));
+        assertFalse(index.createsCycle(3, List.of(1L, 8L)));
+        assertFalse(index.createsCycle(1, List.of(4L, 99L)));
+    }
+
+    @Test
+    void backToBackMeetingsDoNotConflict() {
+        assertNull(index.checkEnrollment(5, new long[]{4}));
+        assertNull(index.checkEnrollment(4, new long[]{5}));
+    }
+
+    @Test
+    void overlappingMeetingsConflict() {
+        assertEquals("Schedule conflict with Databases (MONDAY 10:00-11:00)", index.checkEnrollment(6, new long[]{4}));
+        assertEquals("Schedule conflict with Networks (MONDAY 10:00-11:00)", index.checkEnrollment(6, new long[]{5}));
+        assertEquals("Schedule conflict with Compilers (MONDAY 09:00-10:15)", index.checkEnrollment(4, new long[]{5, 6}));
+    }
+
+    @Test
+    void meetingsOfOtherTermsAreIgnored() {
+        assertNull(index.checkEnrollment(7, new long[]{4, 6}));
+        assertNull(index.checkEnrollment(4, new long[]{7}));
+        assertEquals(List.of(new MeetingTime(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 15))),
+                index.getMeetings(7));
+    }
+
+    @Test
+    void unknownCoursesAreNotChecked() {
+        assertNull(index.checkEnrollment(99, new long[]{4}));
+        assertNull(index.checkEnrollment(6, new long[]{99}));
+        assertEquals(List.of(), index.getPrerequisiteIds(99));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refreshReplacesOnlyTheEditedCourse() {
+        course(8L, "Seminar II", "2026-SPRING", List.of(1L), List.of());
+
+        index.refreshCourse(8);
+
+        assertEquals(List.of(1L), index.getPrerequisiteIds(8));
+        assertNull(index.checkEnrollment(8, new long[]{1}));
+        assertEquals("Missing prerequisites: Data Structures", index.checkEnrollment(3, new long[]{1}));
+        verify(jdbcTemplate, times(1)).query(startsWith("SELECT id, name, term"), any(RowMapper.class));
+    }
+
+    @Test
+    void refreshInsertsNewCoursesAndKeepsOtherPositions() {
+        course(9L, "Capstone", "2026-FALL", List.of(3L),
+                List.of(new MeetingTime(DayOfWeek.MONDAY, LocalTime.of(9, 30), LocalTime.of(10, 0))));
+        course(0L, "Orientation", "2025-SPRING", List.of(), List.of());
+
+        index.refreshCourse(9);
+        index.refreshCourse(0);
+
+        assertEquals("Missing prerequisites: Algorithms", index.checkEnrollment(9, new long[]{3}));
+        assertEquals("Schedule conflict with Capstone (MONDAY 09:00-10:15)", index.checkEnrollment(4, new long[]{9}));
+        assertEquals(List.of(3L), index.getPrerequisiteIds(9));
+        assertEquals(List.of(2L), index.getPrerequisiteIds(3));
+        assertEquals("Missing prerequisites: Intro", index.checkEnrollment(2, new long[]{0}));
+        assertTrue(index.createsCycle(1, List.of(9L)));
+    }
+
+    // Answers the per-course queries of refreshCourse
+    @SuppressWarnings("unchecked")
+    private void course(long id, String name, String term, List<Long> prerequisiteIds, List<MeetingTime> meetings) {
+        when(jdbcTemplate.query(startsWith("SELECT name, term"), any(RowMapper.class), eq(id)))
+                .thenReturn(List.<Object[]>of(new Object[]{name, term}));
+        when(jdbcTemplate.queryForList(startsWith("SELECT prerequisite_id"), eq(Long.class), eq(id)))
+                .thenReturn(prerequisiteIds);
+        when(jdbcTemplate.query(startsWith("SELECT day_of_week"), any(RowMapper.class), eq(id)))
+                .thenReturn((List) meetings);
+    }
+
+    private static Map<String, Object> meeting(long courseId, String start, String end) {
+        return Map.of("course_id", courseId, "day_of_week", DayOfWeek.MONDAY.name(),
+                "start_time", LocalTime.parse(start), "end_time", LocalTime.parse(end));
+    }
+
+    // Feeds each row to the RowCallbackHandler of the query starting with sqlPrefix
+    private void rows(String sqlPrefix, List<Map<String, Object>> rows) throws Exception {
+        List<ResultSet> resultSets = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+            when(rs.getString(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+            when(rs.getObject(anyString(), eq(LocalTime.class))).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+            resultSets.add(rs);
+        }
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet rs : resultSets) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith(sqlPrefix), any(RowCallbackHandler.class));
+    }
+}
@@ -0,0 +1,99 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.act.studentmanagmentsystem.entity.AcademicTerm;
+import com.act.studentmanagmentsystem.entity.Course;
+import com.act.studentmanagmentsystem.entity.Role;
+import com.act.studentmanagmentsystem.entity.User;
+import com.act.studentmanagmentsystem.repository.CourseRepository;
+import com.act.studentmanagmentsystem.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Enrolls a student in a term older than the retention window, lets {@link EnrollmentPartitionMaintenance} detach
+ * that term and then archives the student once graduated. The detached partition must not keep a foreign key to
+ * the student, or {@link ArchivalService} could never delete it.
+ */
+@SpringBootTest(properties = {"app.invalidation.bus=memory", "app.warmup.enabled=false",
+        "app.partitioning.run-on-startup=false", "app.partitioning.retain-terms=12"})
+class EnrollmentPartitionArchivalTests {
+
+    @Autowired
+    private EnrollmentPartitionMaintenance partitionMaintenance;
+    @Autowired
+    private ArchivalService archivalService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String tenant = "pa-" + UUID.randomUUID().toString().substring(0, 8);
+    private final AcademicTerm term = AcademicTerm.current().plus(-20);
+    private Course course;
+    private User student;
+
+    @AfterEach
+    void deleteTenant() {
+        if (student != null) {
+            jdbcTemplate.update("DELETE FROM archived_enrollments WHERE student_id = ?", student.getId());
+            jdbcTemplate.update("DELETE FROM archived_users WHERE id = ?", student.getId());
+        }
+        jdbcTemplate.update("DELETE FROM user_courses WHERE user_id IN (SELECT id FROM users WHERE tenant_id = ?)", tenant);
+        jdbcTemplate.update("DELETE FROM users WHERE tenant_id = ?", tenant);
+        jdbcTemplate.update("DELETE FROM courses WHERE tenant_id = ?", tenant);
+    }
+
+    @Test
+    void studentOfADetachedTermCanBeArchived() {
+        partitionMaintenance.ensurePartitions(term);
+        TenantContext.set(tenant);
+        try {
+            course = new Course();
+            course.setName("Old course");
+            course.setTerm(term.toString());
+            course.setMaxEnrollment(30);
+            course = courseRepository.save(course);
+
+            student = new User();
+            student.setFirstName("Old");
+            student.setLastName("Graduate");
+            student.setEmail("graduate@" + tenant + ".example.com");
+            student.setPassword("not-used");
+            student.setRole(Role.STUDENT);
+            student.setCreatedAt(LocalDateTime.now());
+            student.getCourses().add(course);
+            student = userRepository.save(student);
+        } finally {
+            TenantContext.clear();
+        }
+
+        String partition = "user_courses_" + term.partitionSuffix();
+        assertEquals(1, count("SELECT COUNT(*) FROM " + partition + " WHERE user_id = ?", student.getId()));
+
+        partitionMaintenance.maintain();
+        assertFalse(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition));
+        assertEquals(1, count("SELECT COUNT(*) FROM archived_enrollments WHERE student_id = ?", student.getId()));
+
+        jdbcTemplate.update("UPDATE users SET status = 'GRADUATED' WHERE id = ?", student.getId());
+        archivalService.run("test");
+
+        assertEquals(0, count("SELECT COUNT(*) FROM users WHERE id = ?", student.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM archived_users WHERE id = ?", student.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM archived_enrollments WHERE student_id = ?", student.getId()));
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+}
@@ -0,0 +1,109 @@
+package com.act.studentmanagmentsystem.service;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bytes allocated per authenticated request by {@link JwtAuthenticationFilter}, measured with the thread
+ * allocation counter, against a reproduction of the original filter (header {@code replace}, a key built and the
+ * token parsed three times to validate it and read the email and role, a new authority list per request). Numbers
+ * are logged; the assertion only requires a clear drop so it is stable across JVMs.
+ */
+class JwtAuthenticationFilterAllocationTests {
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilterAllocationTests.class);
+
+    private static final String SECRET = "your-secure-secret-key-1234567890";
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil);
+    private final FilterChain chain = (request, response) -> { };
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatedRequestAllocatesLessThanThePreviousPath() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/course");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken("student@example.com", "STUDENT", "north"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        long previous = bytesPerRequest(() -> previousPath(request.getHeader("Authorization")));
+        long current = bytesPerRequest(() -> {
+            filter.doFilter(request, response, chain);
+            SecurityContextHolder.clearContext();
+        });
+
+        logger.info("Authentication allocates {} bytes/request, previously {} bytes/request", current, previous);
+        assertTrue(current * 2 < previous, "current " + current + " bytes/request vs previous " + previous);
+    }
+
+    @Test
+    void authoritiesAreSharedPerRole() {
+        assertSame(JwtAuthenticationFilter.authorities("ADMIN"), JwtAuthenticationFilter.authorities("ADMIN"));
+        assertEquals("TEACHER", JwtAuthenticationFilter.authorities("TEACHER").get(0).getAuthority());
+        assertEquals("UNKNOWN", JwtAuthenticationFilter.authorities("UNKNOWN").get(0).getAuthority());
+    }
+
+    @Test
+    void bearerTokenRequiresThePrefix() {
+        assertEquals("abc", JwtUtil.bearerToken("Bearer abc"));
+        assertNull(JwtUtil.bearerToken("Basic abc"));
+        assertNull(JwtUtil.bearerToken(null));
+    }
+
+    private static long bytesPerRequest(ThrowingRunnable request) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) {
+            request.run();
+        }
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.run();
+        }
+        return (threads.getThreadAllocatedBytes(thread) - before) / ITERATIONS;
+    }
+
+    private static void previousPath(String header) {
+        String token = header.replace("Bearer ", "");
+        if (Jwts.parser().verifyWith(key()).build().parseSignedClaims(token) != null) {
+            String email = Jwts.parser().verifyWith(key()).build().parseSignedClaims(token).getPayload().getSubject();
+            String role = Jwts.parser().verifyWith(key()).build().parseSignedClaims(token).getPayload().get("role", String.class);
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    email, null, Collections.singletonList(new SimpleGrantedAuthority(role))));
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static SecretKey key() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes());
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
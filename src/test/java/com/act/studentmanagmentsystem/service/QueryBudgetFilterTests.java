@@ -0,0 +1,86 @@
+package com.act.studentmanagmentsystem.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Drives {@link QueryBudgetFilter} with a filter chain that stands in for a handler issuing Hibernate statements
+ * through {@link QueryCounter}, the way an N+1 loop over a page of rows would.
+ */
+class QueryBudgetFilterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCounter inspector = new QueryCounter();
+
+    @Test
+    void countIsSentWhenTheBodyIsWrittenAndRecordedPerEndpoint() throws Exception {
+        QueryBudgetFilter filter = new QueryBudgetFilter(meterRegistry, true, false, 0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("budgeted"), response, handler("budgeted", 2, true));
+
+        assertEquals("2", response.getHeader(QueryBudgetFilter.HEADER));
+        assertEquals(2.0, meterRegistry.get("http.server.requests.queries").tag("endpoint", "GET /api/test").summary().totalAmount());
+        assertEquals(0, meterRegistry.find("query.budget.exceeded").counters().size());
+    }
+
+    @Test
+    void exceededBudgetIsCountedAndFailsWhenConfigured() throws Exception {
+        new QueryBudgetFilter(meterRegistry, false, false, 0)
+                .doFilter(request("budgeted"), new MockHttpServletResponse(), handler("budgeted", 5, false));
+        assertEquals(1.0, meterRegistry.get("query.budget.exceeded").tag("endpoint", "GET /api/test").counter().count());
+
+        QueryBudgetFilter strict = new QueryBudgetFilter(meterRegistry, false, true, 0);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+                strict.doFilter(request("budgeted"), new MockHttpServletResponse(), handler("budgeted", 5, false)));
+        assertEquals("GET /api/test ran 5 SQL statements, its budget is 3", e.getMessage());
+    }
+
+    @Test
+    void methodsWithoutBudgetUseTheDefaultLimit() throws Exception {
+        new QueryBudgetFilter(meterRegistry, false, true, 0)
+                .doFilter(request("unbudgeted"), new MockHttpServletResponse(), handler("unbudgeted", 50, false));
+
+        QueryBudgetFilter limited = new QueryBudgetFilter(meterRegistry, false, true, 10);
+        assertThrows(IllegalStateException.class, () -> limited.doFilter(request("unbudgeted"),
+                new MockHttpServletResponse(), handler("unbudgeted", 11, false)));
+    }
+
+    private MockHttpServletRequest request(String method) throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        request.setAttribute("handler", new HandlerMethod(new Endpoints(), Endpoints.class.getMethod(method)));
+        return request;
+    }
+
+    // Mimics DispatcherServlet: resolves the handler, runs the statements, then writes the body
+    private FilterChain handler(String method, int statements, boolean writeBody) {
+        return (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/test");
+            request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, request.getAttribute("handler"));
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("select * from users where id = ?");
+            }
+            if (writeBody) {
+                response.getWriter().write("[]");
+                response.flushBuffer();
+            }
+        };
+    }
+
+    static class Endpoints {
+        @QueryBudget(3)
+        public void budgeted() {
+        }
+
+        public void unbudgeted() {
+        }
+    }
+}
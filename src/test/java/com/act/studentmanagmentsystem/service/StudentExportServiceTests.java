@@ -0,0 +1,72 @@
+package com.act.studentmanagmentsystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Exports one student over a stubbed JDBC connection and checks that course names containing the list separator
+ * or quotes come out as single courses in both formats.
+ */
+class StudentExportServiceTests {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final StudentExportService exportService = new StudentExportService(
+            dataSource, new DataSourceTransactionManager(dataSource), new ObjectMapper(), 100);
+
+    @BeforeEach
+    void stubStudent() throws Exception {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        Array courses = mock(Array.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getLong("id")).thenReturn(7L);
+        when(rs.getString("first_name")).thenReturn("Ada");
+        when(rs.getString("last_name")).thenReturn("Lovelace");
+        when(rs.getString("email")).thenReturn("ada@example.com");
+        when(rs.getString("status")).thenReturn("ACTIVE");
+        when(rs.getArray("courses")).thenReturn(courses);
+        when(courses.getArray()).thenReturn(new String[]{"Logic; Sets", "Math", "The \"Engine\""});
+    }
+
+    @Test
+    void ndjsonListsEachCourseOnce() throws Exception {
+        String line = export(StudentExportService.Format.NDJSON).trim();
+
+        assertEquals(3, new ObjectMapper().readTree(line).get("courses").size());
+        assertEquals("Logic; Sets", new ObjectMapper().readTree(line).get("courses").get(0).asText());
+    }
+
+    @Test
+    void csvQuotesCoursesContainingTheSeparator() throws Exception {
+        String[] lines = export(StudentExportService.Format.CSV).split("\n");
+
+        assertEquals("7,Ada,Lovelace,ada@example.com,,,ACTIVE,,\"\"\"Logic; Sets\"\";Math;\"\"The \"\"\"\"Engine\"\"\"\"\"\"\"",
+                lines[1]);
+    }
+
+    private String export(StudentExportService.Format format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export("north", null, null, null, null, null, format, false, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}